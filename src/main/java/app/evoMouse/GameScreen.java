@@ -1,6 +1,14 @@
 package app.evoMouse;
 
+import app.evoMouse.bench.PerfStats;
+import app.evoMouse.fx.ParticleAtlas;
+import app.evoMouse.fx.ParticleSystem;
+import app.evoMouse.fx.PlayerEffects;
+import app.evoMouse.graphics.TextureCache;
+import app.evoMouse.input.InputSource;
 import app.evoMouse.player.Player;
+import app.evoMouse.world.FieldOfView;
+import app.evoMouse.world.GameWorld;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.ScreenAdapter;
@@ -10,8 +18,6 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import static com.badlogic.gdx.Gdx.input;
-
 /**
  * {@code GameScreen} é a tela principal do jogo "EvoMouse".
  *
@@ -23,7 +29,10 @@ import static com.badlogic.gdx.Gdx.input;
  *   <li>Interpretar entradas do usuário (movimento e zoom).</li>
  * </ul>
  *
- * Esta classe funciona como o loop principal de renderização do jogo.
+ * Esta classe funciona como o loop principal de renderização do jogo. A
+ * simulação ({@link GameWorld}) avança em ticks fixos, desacoplados da taxa de
+ * quadros; ao reproduzir um log de entrada, os tempos de frame e de tick são
+ * medidos e impressos quando o replay termina.
  */
 public class GameScreen extends ScreenAdapter {
 
@@ -33,19 +42,44 @@ public class GameScreen extends ScreenAdapter {
     /** Altura da viewport (em pixels). */
     public static final int HEIGHT = 180 * 4;
 
+    /** Tempo máximo de frame considerado, evitando espiral de ticks após travamentos. */
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    /** Número máximo de partículas vivas ao mesmo tempo. */
+    private static final int PARTICLE_CAPACITY = 1 << 16;
+
+    /** Raio de visão do jogador, em tiles. */
+    private static final int VIEW_RADIUS = 8;
+
     private final SpriteBatch batch;
+    private final TextureCache textures;
+    private final LaunchOptions options;
     private OrthographicCamera camera;
     private IsometricRenderer renderer;
     private Viewport viewport;
-    private Player player;
+    private GameWorld world;
+    private ParticleSystem particles;
+    private ParticleAtlas particleAtlas;
+    private PlayerEffects playerEffects;
+    private FieldOfView fov;
+
+    /** Tempo acumulado ainda não consumido pelos ticks da simulação. */
+    private float accumulator;
+
+    /** Medições de desempenho por frame e por tick ({@code null} fora de um replay, quando não seriam impressas). */
+    private PerfStats frameStats, tickStats;
 
     /**
      * Cria uma nova instância de {@code GameScreen}.
      *
-     * @param batch o {@link SpriteBatch} responsável por desenhar os elementos na tela.
+     * @param batch    o {@link SpriteBatch} responsável por desenhar os elementos na tela.
+     * @param textures cache de texturas compartilhado pelo jogo.
+     * @param options  opções de linha de comando (semente, gravação e replay).
      */
-    public GameScreen(SpriteBatch batch) {
+    public GameScreen(SpriteBatch batch, TextureCache textures, LaunchOptions options) {
         this.batch = batch;
+        this.textures = textures;
+        this.options = options;
     }
 
     /**
@@ -54,7 +88,9 @@ public class GameScreen extends ScreenAdapter {
      *   <li>Câmera ortográfica centralizada.</li>
      *   <li>Viewport ajustável (FitViewport).</li>
      *   <li>Renderizador isométrico do mapa ({@link IsometricRenderer}).</li>
-     *   <li>Instância do jogador ({@link Player}).</li>
+     *   <li>Mundo simulado ({@link GameWorld}) com o jogador ({@link Player}).</li>
+     *   <li>Sistema de partículas ({@link ParticleSystem}) e os efeitos do jogador.</li>
+     *   <li>Campo de visão do jogador ({@link FieldOfView}).</li>
      * </ul>
      */
     @Override
@@ -63,8 +99,20 @@ public class GameScreen extends ScreenAdapter {
         viewport = new FitViewport(WIDTH, HEIGHT, camera);
         camera.position.set(WIDTH / 2f - 500, HEIGHT / 2f, 10);
 
-        renderer = new IsometricRenderer();
-        player = new Player();
+        renderer = new IsometricRenderer(textures);
+        world = options.createWorld(textures);
+
+        particles = new ParticleSystem(PARTICLE_CAPACITY);
+        particleAtlas = new ParticleAtlas(textures);
+        playerEffects = new PlayerEffects(particles);
+        world.getPlayer().setAttackListener(playerEffects);
+
+        fov = new FieldOfView(VIEW_RADIUS);
+
+        if (options.getReplayPath() != null) {
+            frameStats = new PerfStats("frame", 1 << 14);
+            tickStats = new PerfStats("tick", 1 << 14);
+        }
     }
 
     /**
@@ -73,30 +121,65 @@ public class GameScreen extends ScreenAdapter {
      * Este método:
      * <ul>
      *   <li>Limpa o buffer de tela.</li>
-     *   <li>Processa a entrada do usuário.</li>
-     *   <li>Atualiza o jogador e a câmera.</li>
-     *   <li>Desenha o terreno e o jogador.</li>
+     *   <li>Executa os ticks da simulação acumulados desde o último frame.</li>
+     *   <li>Atualiza as partículas, a câmera e o campo de visão (que só é
+     *       recalculado se o jogador mudou de tile ou o mapa ao redor mudou).</li>
+     *   <li>Desenha o terreno, o jogador e as partículas, ocultando o que está fora do campo de visão.</li>
+     *   <li>Finaliza o frame no {@link TextureCache}, que pode descartar texturas ociosas.</li>
      * </ul>
      *
      * @param delta tempo (em segundos) desde o último frame.
      */
     @Override
     public void render(float delta) {
+        long frameStart = System.nanoTime();
+
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        batch.setProjectionMatrix(camera.combined);
 
-        handleInput();
-        player.update(delta);
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+        while (accumulator >= GameWorld.TICK && !world.isFinished()) {
+            long tickStart = System.nanoTime();
+            world.step();
+            handleInput(world.getInput());
+            if (tickStats != null) tickStats.add(System.nanoTime() - tickStart);
+
+            // Todas as partículas (inclusive as explosões de ataque registradas no step)
+            // saem fora da medição do tick, para que ela continue comparável à do ReplayBenchmark
+            playerEffects.tick(world.getPlayer());
+            accumulator -= GameWorld.TICK;
+        }
+
+        Player player = world.getPlayer();
+        fov.update(world.getMap(),
+                IsometricRenderer.tileRowAt(player.getIsoX(), player.getIsoY()),
+                IsometricRenderer.tileColAt(player.getIsoX(), player.getIsoY()));
+
+        particles.update(delta);
         camera.update();
+        batch.setProjectionMatrix(camera.combined);
 
         batch.begin();
-        renderer.drawGround(batch, player);
+        renderer.drawGround(batch, world.getMap(), player, fov);
+        particles.render(batch, particleAtlas, fov);
         batch.end();
+        textures.endFrame();
+
+        if (frameStats != null) frameStats.add(System.nanoTime() - frameStart);
+
+        if (world.isFinished()) {
+            Gdx.app.log("perf", "replay=" + options.getReplayPath() + " seed=" + world.getSeed() + " mode=realtime");
+            Gdx.app.log("perf", frameStats.report());
+            Gdx.app.log("perf", tickStats.report());
+            Gdx.app.log("perf", textures.report());
+            Gdx.app.exit();
+        }
     }
 
     /**
-     * Processa os comandos de entrada do teclado.
+     * Processa os comandos de entrada da câmera. Executado uma vez por tick,
+     * com a mesma fonte de entrada do mundo, para que replays movam a câmera
+     * da mesma forma que a sessão gravada.
      *
      * <p>Controles disponíveis:</p>
      * <ul>
@@ -104,8 +187,10 @@ public class GameScreen extends ScreenAdapter {
      *   <li><b>E</b> – Afasta (zoom out)</li>
      *   <li><b>Setas direcionais</b> – Move a câmera</li>
      * </ul>
+     *
+     * @param input fonte de entrada já amostrada para o tick atual.
      */
-    private void handleInput() {
+    private void handleInput(InputSource input) {
         if (input.isKeyPressed(Input.Keys.Q)) {
             camera.zoom -= 0.002f;
         } else if (input.isKeyPressed(Input.Keys.E)) {
@@ -126,15 +211,17 @@ public class GameScreen extends ScreenAdapter {
     /**
      * Libera recursos da tela quando ela é descartada.
      * <p>
-     * Atualmente não implementa descarte manual, mas deve ser usado para:
-     * <ul>
-     *   <li>Descarregar texturas e sons.</li>
-     *   <li>Fechar batchs e outros objetos gráficos.</li>
-     * </ul>
+     * Libera as referências de texturas do terreno e do jogador, o atlas das
+     * partículas e finaliza a fonte de entrada do mundo (fechando gravações em andamento).
+     * <p>
+     * As texturas em si pertencem ao {@link TextureCache} e o {@link SpriteBatch}
+     * à classe {@link Isometric}, que os descartam ao encerrar o jogo.
      * </p>
      */
     @Override
     public void dispose() {
-        // TODO: Liberar texturas e batchs aqui quando necessário
+        if (renderer != null) renderer.dispose();
+        if (particleAtlas != null) particleAtlas.dispose();
+        if (world != null) world.dispose();
     }
 }
@@ -1,6 +1,8 @@
 package app.evoMouse;
 
+import app.evoMouse.graphics.TextureCache;
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 /**
@@ -15,6 +17,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
  * <p><b>Funções principais:</b></p>
  * <ul>
  *   <li>Inicializar o {@link SpriteBatch}, responsável pela renderização de sprites.</li>
+ *   <li>Inicializar o {@link TextureCache}, que controla as texturas residentes na GPU.</li>
  *   <li>Instanciar e definir a tela principal do jogo ({@link GameScreen}).</li>
  *   <li>Delegar o ciclo de renderização para a tela atual.</li>
  *   <li>Gerenciar a liberação de recursos ao encerrar o jogo.</li>
@@ -25,15 +28,30 @@ public class Isometric extends Game {
     /** Gerenciador global de renderização 2D. */
     private SpriteBatch batch;
 
+    /** Cache global de texturas, com orçamento de memória de vídeo. */
+    private TextureCache textures;
+
     /** Tela principal do jogo, responsável pela renderização isométrica. */
     private GameScreen gScreen;
 
+    /** Opções de linha de comando repassadas à tela principal. */
+    private final LaunchOptions options;
+
+    /**
+     * Cria o jogo com as opções de linha de comando informadas.
+     *
+     * @param options semente, gravação e replay da sessão.
+     */
+    public Isometric(LaunchOptions options) {
+        this.options = options;
+    }
+
     /**
      * Inicializa os recursos essenciais do jogo.
      *
      * <p>
      * Este método é chamado automaticamente pelo framework LibGDX
-     * quando a aplicação é criada. Aqui, o {@link SpriteBatch} é inicializado,
+     * quando a aplicação é criada. Aqui, o {@link SpriteBatch} e o {@link TextureCache} são inicializados,
      * a tela principal ({@link GameScreen}) é instanciada, e o jogo é configurado
      * para exibi-la.
      * </p>
@@ -41,7 +59,8 @@ public class Isometric extends Game {
     @Override
     public void create() {
         batch = new SpriteBatch();
-        gScreen = new GameScreen(batch);
+        textures = new TextureCache(options.getTextureBudgetBytes());
+        gScreen = new GameScreen(batch, textures, options);
         setScreen(gScreen);
     }
 
@@ -72,10 +91,17 @@ public class Isometric extends Game {
      * <ul>
      *   <li>LibGDX não realiza a liberação automática desses recursos, pois são gerenciados fora da JVM.</li>
      *   <li>Após chamar {@code dispose()}, nenhum método que dependa desses recursos deve ser utilizado.</li>
+     *   <li>O {@link TextureCache} é descartado depois da tela, para que qualquer textura ainda
+     *       referenciada seja reportada como vazamento.</li>
      * </ul>
      */
     @Override
     public void dispose() {
+        if (gScreen != null) gScreen.dispose();
+        if (textures != null) {
+            Gdx.app.log("TextureCache", textures.report());
+            textures.dispose(); // lista no log as texturas que não foram liberadas
+        }
         if (batch != null) batch.dispose();
         super.dispose();
     }
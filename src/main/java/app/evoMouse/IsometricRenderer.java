@@ -1,45 +1,36 @@
 package app.evoMouse;
 
+import app.evoMouse.graphics.TextureCache;
+import app.evoMouse.graphics.TextureHandle;
 import app.evoMouse.player.Player;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
+import app.evoMouse.world.FieldOfView;
+import app.evoMouse.world.TileMap;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-
-import java.util.Random;
+import com.badlogic.gdx.utils.Disposable;
 
 /**
  * Classe responsável por renderizar o mapa isométrico e seus elementos no jogo EvoMouse.
  * <p>
  * A {@code IsometricRenderer} gerencia:
  * <ul>
- *   <li>A geração procedural do mapa 2D (matriz de inteiros);</li>
  *   <li>O desenho de tiles de chão e elementos como árvores e troncos;</li>
  *   <li>A renderização do jogador na camada correta, respeitando a profundidade isométrica;</li>
- *   <li>A atualização dinâmica do mapa ao pressionar a tecla {@code G}.</li>
+ *   <li>A névoa de guerra: tiles nunca vistos não são desenhados e tiles fora do
+ *       campo de visão ({@link FieldOfView}) são escurecidos.</li>
  * </ul>
  * </p>
  *
  * <p>
- * Cada tile é representado por um valor numérico:
- * <ul>
- *   <li>0 → {@code grass_2}</li>
- *   <li>1 → {@code grass}</li>
- *   <li>2 → {@code tree_1}</li>
- *   <li>3 → {@code tree_2}</li>
- *   <li>4 → {@code tronco}</li>
- *   <li>5 → {@code grass_3}</li>
- * </ul>
+ * O conteúdo do mapa (e sua geração procedural) fica em {@link TileMap}; esta
+ * classe apenas o desenha.
  * </p>
  *
  * @author
  * @version 1.2
  * @since 2025
  */
-public class IsometricRenderer {
-
-    /** Mapa bidimensional representando cada tile do terreno. */
-    private int[][] map;
+public class IsometricRenderer implements Disposable {
 
     /** Largura padrão de cada tile em pixels. */
     public static final int TILE_WIDTH = 64;
@@ -47,57 +38,80 @@ public class IsometricRenderer {
     /** Altura padrão de cada tile em pixels. */
     public static final int TILE_HEIGHT = 64;
 
+    /** Cor aplicada aos tiles já explorados que estão fora do campo de visão. */
+    private static final Color FOG = new Color(0.35f, 0.35f, 0.45f, 1f);
+
+    /** Cache de onde vêm as texturas do terreno. */
+    private final TextureCache textures;
+
     /** Texturas utilizadas para o terreno e elementos do cenário. */
-    public Texture grass, grass_2, grass_3, tree_1, tree_2, tronco;
+    private final TextureHandle grass, grass_2, grass_3, tree_1, tree_2, tronco;
 
     /**
-     * Construtor padrão que inicializa todas as texturas e gera o primeiro mapa procedural.
+     * Construtor padrão que adquire todas as texturas do terreno no cache.
+     *
+     * @param textures cache de texturas compartilhado pelo jogo.
      */
-    public IsometricRenderer() {
-        grass = new Texture(Gdx.files.internal("assets/blocks/grass_1.png"));
-        grass_2 = new Texture(Gdx.files.internal("assets/blocks/grass_2.png"));
-        grass_3 = new Texture(Gdx.files.internal("assets/blocks/grass_3.png"));
-        tree_1 = new Texture(Gdx.files.internal("assets/landscape_elements/tree-1.png"));
-        tree_2 = new Texture(Gdx.files.internal("assets/landscape_elements/tree-2.png"));
-        tronco = new Texture(Gdx.files.internal("assets/landscape_elements/tronco.png"));
-        map = generateMap();
+    public IsometricRenderer(TextureCache textures) {
+        this.textures = textures;
+        grass = textures.acquire("assets/blocks/grass_1.png");
+        grass_2 = textures.acquire("assets/blocks/grass_2.png");
+        grass_3 = textures.acquire("assets/blocks/grass_3.png");
+        tree_1 = textures.acquire("assets/landscape_elements/tree-1.png");
+        tree_2 = textures.acquire("assets/landscape_elements/tree-2.png");
+        tronco = textures.acquire("assets/landscape_elements/tronco.png");
     }
 
     /**
-     * Renderiza o mapa completo e o jogador no contexto isométrico.
+     * Renderiza o mapa e o jogador no contexto isométrico.
      *
      * <p>
      * O método desenha os tiles linha a linha, de trás para frente, para garantir a
      * sobreposição correta dos elementos (profundidade visual isométrica).
+     * Tiles ainda não explorados são pulados, tiles fora do campo de visão são
+     * escurecidos e entidades só aparecem em tiles visíveis.
      * </p>
      *
      * @param batch  instância de {@link SpriteBatch} utilizada para desenhar os elementos.
+     * @param map    mapa de tiles a ser desenhado.
      * @param player instância do jogador atual a ser desenhado.
+     * @param fov    campo de visão do jogador, já atualizado para o frame.
      */
-    public void drawGround(SpriteBatch batch, Player player) {
-        for (int row = map.length - 1; row >= 0; row--) {
-            for (int col = map.length - 1; col >= 0; col--) {
+    public void drawGround(SpriteBatch batch, TileMap map, Player player, FieldOfView fov) {
+        for (int row = map.size() - 1; row >= 0; row--) {
+            for (int col = map.size() - 1; col >= 0; col--) {
+                if (!fov.isExplored(row, col)) continue;
+
+                boolean visible = fov.isVisible(row, col);
+                if (!visible) batch.setColor(FOG);
+
+                int tile = map.get(row, col);
 
                 float x = (col - row) * (TILE_WIDTH / 2f);
                 float y = (col + row) * (TILE_HEIGHT / 4f);
 
                 // Renderização dos tipos de chão
-                switch (map[row][col]) {
-                    case 0 -> batch.draw(grass_2, x, y, TILE_WIDTH, TILE_HEIGHT);
-                    case 1 -> batch.draw(grass, x, y, TILE_WIDTH, TILE_HEIGHT);
-                    case 5 -> batch.draw(grass_3, x, y, TILE_WIDTH, TILE_HEIGHT);
+                switch (tile) {
+                    case 0 -> batch.draw(grass_2.getTexture(), x, y, TILE_WIDTH, TILE_HEIGHT);
+                    case 1 -> batch.draw(grass.getTexture(), x, y, TILE_WIDTH, TILE_HEIGHT);
+                    case 5 -> batch.draw(grass_3.getTexture(), x, y, TILE_WIDTH, TILE_HEIGHT);
                 }
 
                 // Renderização de elementos (árvores, troncos)
-                if (map[row][col] == 2) {
-                    batch.draw(grass, x, y, TILE_WIDTH, TILE_HEIGHT);
-                    batch.draw(tree_1, x, y + TILE_HEIGHT / 1.5f, TILE_WIDTH, TILE_HEIGHT + 30f);
-                } else if (map[row][col] == 3) {
-                    batch.draw(grass, x, y, TILE_WIDTH, TILE_HEIGHT);
-                    batch.draw(tree_2, x, y + TILE_HEIGHT / 1.5f, TILE_WIDTH, TILE_HEIGHT + 30f);
-                } else if (map[row][col] == 4) {
-                    batch.draw(grass, x, y, TILE_WIDTH, TILE_HEIGHT);
-                    batch.draw(tronco, x, y + TILE_HEIGHT / 1.5f, TILE_WIDTH, TILE_HEIGHT / 2f);
+                if (tile == 2) {
+                    batch.draw(grass.getTexture(), x, y, TILE_WIDTH, TILE_HEIGHT);
+                    batch.draw(tree_1.getTexture(), x, y + TILE_HEIGHT / 1.5f, TILE_WIDTH, TILE_HEIGHT + 30f);
+                } else if (tile == 3) {
+                    batch.draw(grass.getTexture(), x, y, TILE_WIDTH, TILE_HEIGHT);
+                    batch.draw(tree_2.getTexture(), x, y + TILE_HEIGHT / 1.5f, TILE_WIDTH, TILE_HEIGHT + 30f);
+                } else if (tile == 4) {
+                    batch.draw(grass.getTexture(), x, y, TILE_WIDTH, TILE_HEIGHT);
+                    batch.draw(tronco.getTexture(), x, y + TILE_HEIGHT / 1.5f, TILE_WIDTH, TILE_HEIGHT / 2f);
+                }
+
+                if (!visible) {
+                    batch.setColor(Color.WHITE);
+                    continue;
                 }
 
                 // Renderiza o jogador quando ele está dentro do tile atual (ajuste simples de profundidade)
@@ -107,52 +121,41 @@ public class IsometricRenderer {
                 }
             }
         }
-
-        // Gera novo mapa ao pressionar 'G'
-        if (Gdx.input.isKeyJustPressed(Input.Keys.G)) {
-            map = generateMap();
-        }
     }
 
     /**
-     * Gera um novo mapa procedural com distribuição aleatória de tiles.
-     * <p>
-     * O tamanho do mapa varia de 10 a 50 tiles por dimensão.
-     * As probabilidades determinam o tipo de terreno ou objeto em cada célula.
-     * </p>
+     * Converte uma posição do mundo isométrico na linha do tile correspondente
+     * (o inverso do posicionamento feito em {@link #drawGround}).
      *
-     * @return matriz bidimensional representando o mapa isométrico.
+     * @param isoX posição X no mundo isométrico.
+     * @param isoY posição Y no mundo isométrico.
+     * @return linha do tile mais próximo (pode estar fora do mapa).
      */
-    private int[][] generateMap() {
-        Random r = new Random();
-        int rSize = Math.max(10, r.nextInt(50)); // tamanho mínimo de 10x10
-
-        int[][] map = new int[rSize][rSize];
-
-        for (int row = 0; row < map.length; row++) {
-            for (int col = 0; col < map.length; col++) {
-                int num = r.nextInt(100);
-
-                if (num < 15) map[row][col] = 0;     // 15% → grass_2
-                else if (num < 70) map[row][col] = 1; // 55% → grass
-                else if (num < 85) map[row][col] = 5; // 15% → grass_3
-                else if (num < 93) map[row][col] = 2; // 8%  → tree_1
-                else if (num < 98) map[row][col] = 3; // 5%  → tree_2
-                else map[row][col] = 4;               // 2%  → tronco
-            }
-        }
+    public static int tileRowAt(float isoX, float isoY) {
+        return Math.round((isoY / (TILE_HEIGHT / 4f) - isoX / (TILE_WIDTH / 2f)) / 2f);
+    }
 
-        // Tile inicial garantido como chão
-        map[0][0] = 1;
-        return map;
+    /**
+     * Converte uma posição do mundo isométrico na coluna do tile correspondente.
+     *
+     * @param isoX posição X no mundo isométrico.
+     * @param isoY posição Y no mundo isométrico.
+     * @return coluna do tile mais próximo (pode estar fora do mapa).
+     */
+    public static int tileColAt(float isoX, float isoY) {
+        return Math.round((isoY / (TILE_HEIGHT / 4f) + isoX / (TILE_WIDTH / 2f)) / 2f);
     }
 
+    /**
+     * Libera as referências às texturas do terreno.
+     */
+    @Override
     public void dispose() {
-        grass.dispose();
-        grass_2.dispose();
-        grass_3.dispose();
-        tree_1.dispose();
-        tree_2.dispose();
-        tronco.dispose();
+        textures.release(grass);
+        textures.release(grass_2);
+        textures.release(grass_3);
+        textures.release(tree_1);
+        textures.release(tree_2);
+        textures.release(tronco);
     }
 }
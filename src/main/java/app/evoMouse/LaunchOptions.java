@@ -0,0 +1,157 @@
+package app.evoMouse;
+
+import app.evoMouse.graphics.TextureCache;
+import app.evoMouse.input.GdxInputSource;
+import app.evoMouse.input.InputRecorder;
+import app.evoMouse.input.InputSource;
+import app.evoMouse.input.ReplayInputSource;
+import app.evoMouse.world.GameWorld;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+
+/**
+ * Opções de linha de comando do jogo.
+ *
+ * <p><b>Argumentos aceitos:</b></p>
+ * <ul>
+ *   <li>{@code --seed <n>} – semente da geração do mundo (padrão: aleatória)</li>
+ *   <li>{@code --record <arquivo>} – grava a entrada da sessão em um log binário</li>
+ *   <li>{@code --replay <arquivo>} – reproduz um log gravado (a semente vem do log)</li>
+ *   <li>{@code --headless} – com {@code --replay}, roda sem janela na velocidade máxima</li>
+ *   <li>{@code --texture-budget <MB>} – orçamento de memória de vídeo das texturas (padrão: 64)</li>
+ *   <li>{@code --server} – roda apenas o servidor autoritativo, sem janela</li>
+ *   <li>{@code --port <n>} – porta UDP do servidor (padrão: 7777)</li>
+ *   <li>{@code --bind <endereço>} – interface em que o servidor escuta (padrão: loopback;
+ *       use {@code 0.0.0.0} para aceitar conexões da rede)</li>
+ *   <li>{@code --load-test <clientes>} – teste de carga do servidor com clientes simulados no localhost</li>
+ *   <li>{@code --duration <segundos>} – duração do teste de carga (padrão: 30)</li>
+ * </ul>
+ */
+public class LaunchOptions {
+
+    private long seed = System.nanoTime();
+    private Path recordPath;
+    private Path replayPath;
+    private boolean headless;
+    private long textureBudgetBytes = 64L * 1024 * 1024;
+    private boolean server;
+    private int port = 7777;
+    private InetAddress bindAddress = InetAddress.getLoopbackAddress();
+    private int loadTestClients;
+    private int durationSeconds = 30;
+
+    /**
+     * Interpreta os argumentos de {@link Main#main(String[])}.
+     *
+     * @param args argumentos da linha de comando
+     * @return opções preenchidas
+     * @throws IllegalArgumentException se um argumento for desconhecido ou incompleto
+     */
+    public static LaunchOptions parse(String[] args) {
+        LaunchOptions options = new LaunchOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed" -> options.seed = Long.parseLong(value(args, ++i));
+                case "--record" -> options.recordPath = Path.of(value(args, ++i));
+                case "--replay" -> options.replayPath = Path.of(value(args, ++i));
+                case "--headless" -> options.headless = true;
+                case "--texture-budget" -> options.textureBudgetBytes = Long.parseLong(value(args, ++i)) * 1024 * 1024;
+                case "--server" -> options.server = true;
+                case "--port" -> options.port = Integer.parseInt(value(args, ++i));
+                case "--bind" -> options.bindAddress = address(value(args, ++i));
+                case "--load-test" -> options.loadTestClients = Integer.parseInt(value(args, ++i));
+                case "--duration" -> options.durationSeconds = Integer.parseInt(value(args, ++i));
+                default -> throw new IllegalArgumentException("Argumento desconhecido: " + args[i]);
+            }
+        }
+
+        if (options.recordPath != null && options.replayPath != null) {
+            throw new IllegalArgumentException("--record e --replay não podem ser usados juntos");
+        }
+        return options;
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Valor ausente para " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static InetAddress address(String host) {
+        try {
+            return InetAddress.getByName(host);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Endereço inválido para --bind: " + host, e);
+        }
+    }
+
+    /**
+     * Cria o mundo com a fonte de entrada correspondente às opções: teclado,
+     * teclado com gravação ou replay de um log.
+     *
+     * @param textures cache de texturas, ou {@code null} para simular sem texturas
+     * @return mundo pronto para o primeiro tick
+     */
+    public GameWorld createWorld(TextureCache textures) {
+        if (replayPath != null) {
+            ReplayInputSource replay = ReplayInputSource.open(replayPath);
+            return new GameWorld(replay.getSeed(), replay, textures);
+        }
+
+        InputSource input = new GdxInputSource();
+        if (recordPath != null) {
+            input = new InputRecorder(input, recordPath, seed);
+        }
+        return new GameWorld(seed, input, textures);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Path getRecordPath() {
+        return recordPath;
+    }
+
+    public Path getReplayPath() {
+        return replayPath;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public long getTextureBudgetBytes() {
+        return textureBudgetBytes;
+    }
+
+    public boolean isServer() {
+        return server;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * @return interface em que o servidor escuta (loopback, a menos que {@code --bind} seja usado)
+     */
+    public InetAddress getBindAddress() {
+        return bindAddress;
+    }
+
+    /**
+     * @return quantidade de clientes simulados, ou 0 se o teste de carga não foi pedido
+     */
+    public int getLoadTestClients() {
+        return loadTestClients;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+}
@@ -1,8 +1,13 @@
 package app.evoMouse;
 
+import app.evoMouse.bench.LoadTest;
+import app.evoMouse.bench.ReplayBenchmark;
+import app.evoMouse.net.GameServer;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
+import java.net.InetSocketAddress;
+
 /**
  * Classe principal responsável por inicializar a aplicação LibGDX.
  *
@@ -11,7 +16,11 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
  * </p>
  *
  * <p>É o ponto de entrada da aplicação, onde o método {@code main} é executado
- * para iniciar o ciclo de vida do jogo.</p>
+ * para iniciar o ciclo de vida do jogo. Os argumentos aceitos estão descritos
+ * em {@link LaunchOptions}; com {@code --headless --replay <arquivo>} o jogo
+ * não abre janela e apenas executa o {@link ReplayBenchmark}. Os modos
+ * {@code --server} ({@link GameServer}) e {@code --load-test} ({@link LoadTest})
+ * também rodam sem janela.</p>
  *
  * @author
  * @version 1.0
@@ -19,6 +28,24 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
  */
 public class Main {
     public static void main(String[] args) {
+        LaunchOptions options = LaunchOptions.parse(args);
+
+        // Replay sem janela: apenas simulação, na velocidade máxima
+        if (options.isHeadless()) {
+            ReplayBenchmark.run(options);
+            return;
+        }
+
+        // Servidor autoritativo e teste de carga: sem janela
+        if (options.isServer()) {
+            GameServer.serve(options.getSeed(), new InetSocketAddress(options.getBindAddress(), options.getPort()));
+            return;
+        }
+        if (options.getLoadTestClients() > 0) {
+            LoadTest.run(options);
+            return;
+        }
+
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
 
         // Definir título da janela
@@ -28,6 +55,6 @@ public class Main {
         config.setWindowedMode(GameScreen.WIDTH, GameScreen.HEIGHT);
 
         // Criar aplicação
-        new Lwjgl3Application(new Isometric(), config);
+        new Lwjgl3Application(new Isometric(options), config);
     }
 }
@@ -0,0 +1,122 @@
+package app.evoMouse.bench;
+
+import app.evoMouse.LaunchOptions;
+import app.evoMouse.input.InputKeys;
+import app.evoMouse.net.GameClient;
+import app.evoMouse.net.GameServer;
+import app.evoMouse.world.GameWorld;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga do {@link GameServer} com centenas de clientes simulados no localhost.
+ * <p>
+ * O servidor roda em uma thread própria e todos os clientes são conduzidos por
+ * uma única thread, na mesma taxa de ticks do jogo. Cada cliente muda de
+ * direção a cada meio segundo (em média) e ataca de vez em quando. Ao final,
+ * imprime o tempo de tick do servidor e o tráfego por cliente.
+ * </p>
+ */
+public final class LoadTest {
+
+    /** Combinações de teclas de movimento sorteadas pelos clientes */
+    private static final int[] MOVES = {
+            0,
+            InputKeys.bitOf(Input.Keys.W),
+            InputKeys.bitOf(Input.Keys.S),
+            InputKeys.bitOf(Input.Keys.A),
+            InputKeys.bitOf(Input.Keys.D),
+            InputKeys.bitOf(Input.Keys.W) | InputKeys.bitOf(Input.Keys.A),
+            InputKeys.bitOf(Input.Keys.W) | InputKeys.bitOf(Input.Keys.D),
+            InputKeys.bitOf(Input.Keys.S) | InputKeys.bitOf(Input.Keys.A),
+            InputKeys.bitOf(Input.Keys.S) | InputKeys.bitOf(Input.Keys.D)
+    };
+
+    private static final int ATTACK = InputKeys.bitOf(Input.Keys.X);
+
+    private LoadTest() {
+    }
+
+    /**
+     * Executa o teste de carga e imprime o relatório.
+     *
+     * @param options opções de linha de comando ({@code --load-test}, {@code --duration}, {@code --port})
+     */
+    public static void run(LaunchOptions options) {
+        int clientCount = options.getLoadTestClients();
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), options.getPort());
+
+        GameServer server = new GameServer(options.getSeed(), address);
+        Thread serverThread = new Thread(server, "game-server");
+        serverThread.start();
+
+        RandomXS128 random = new RandomXS128(options.getSeed());
+        GameClient[] clients = new GameClient[clientCount];
+        int[] masks = new int[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clients[i] = new GameClient(address);
+            clients[i].connect();
+        }
+
+        long ticks = (long) options.getDurationSeconds() * GameWorld.TICKS_PER_SECOND;
+        long tickNanos = 1_000_000_000L / GameWorld.TICKS_PER_SECOND;
+        long next = System.nanoTime();
+
+        for (long tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < clientCount; i++) {
+                GameClient client = clients[i];
+                client.poll();
+
+                if (!client.isConnected()) {
+                    // Reenvia o pedido de conexão a cada segundo até ser aceito
+                    if (!client.isRejected() && tick % GameWorld.TICKS_PER_SECOND == 0) client.connect();
+                    continue;
+                }
+
+                if (random.nextInt(30) == 0) {
+                    masks[i] = MOVES[random.nextInt(MOVES.length)];
+                }
+                int mask = masks[i];
+                if (random.nextInt(90) == 0) mask |= ATTACK;
+                client.sendInput(mask);
+            }
+
+            next += tickNanos;
+            long wait = next - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+        }
+
+        long received = 0;
+        int connected = 0, applied = 0, discarded = 0;
+        for (GameClient client : clients) {
+            client.poll();
+            if (client.isConnected()) connected++;
+            received += client.getBytesReceived();
+            applied += client.getSnapshotsApplied();
+            discarded += client.getSnapshotsDiscarded();
+            client.dispose();
+        }
+
+        server.stop();
+        try {
+            serverThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        double seconds = options.getDurationSeconds();
+        System.out.println("[perf] load-test clients=" + clientCount + " connected=" + connected
+                + " duration=" + options.getDurationSeconds() + "s seed=" + options.getSeed());
+        for (String line : server.report().split(System.lineSeparator())) {
+            System.out.println("[perf] " + line);
+        }
+        System.out.printf("[perf] client-received=%.1fB/s per client, snapshots applied=%d discarded=%d%n",
+                connected == 0 ? 0 : received / (double) connected / seconds, applied, discarded);
+
+        server.dispose();
+    }
+}
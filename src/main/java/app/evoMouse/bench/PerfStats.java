@@ -0,0 +1,95 @@
+package app.evoMouse.bench;
+
+import java.util.Arrays;
+
+/**
+ * Acumula amostras de tempo (em nanossegundos) e gera um resumo estatístico.
+ * <p>
+ * As amostras ficam em um array primitivo que só cresce quando enche, então
+ * medir um frame ou tick não gera alocações na maior parte do tempo. O resumo
+ * tem formato fixo de uma linha para facilitar a comparação entre commits.
+ * </p>
+ */
+public class PerfStats {
+
+    /** Nome da métrica exibido no relatório (ex.: "tick", "frame") */
+    private final String name;
+
+    private long[] samples;
+    private int count;
+
+    /**
+     * @param name            nome da métrica
+     * @param initialCapacity quantidade de amostras pré-alocadas
+     */
+    public PerfStats(String name, int initialCapacity) {
+        this.name = name;
+        this.samples = new long[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Registra uma amostra.
+     *
+     * @param nanos duração medida, em nanossegundos
+     */
+    public void add(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    /**
+     * Descarta as amostras registradas, mantendo o array já alocado.
+     */
+    public void reset() {
+        count = 0;
+    }
+
+    /**
+     * @return quantidade de amostras registradas
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return soma de todas as amostras, em nanossegundos
+     */
+    public long getTotal() {
+        long total = 0;
+        for (int i = 0; i < count; i++) total += samples[i];
+        return total;
+    }
+
+    /**
+     * Gera o resumo das amostras, com tempos em milissegundos.
+     *
+     * @return linha no formato {@code nome n=.. avg=.. p50=.. p95=.. p99=.. max=..}
+     */
+    public String report() {
+        if (count == 0) {
+            return name + " n=0";
+        }
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        return String.format("%s n=%d avg=%.4fms p50=%.4fms p95=%.4fms p99=%.4fms max=%.4fms",
+                name, count,
+                toMillis(getTotal() / (double) count),
+                toMillis(percentile(sorted, 0.50)),
+                toMillis(percentile(sorted, 0.95)),
+                toMillis(percentile(sorted, 0.99)),
+                toMillis(sorted[count - 1]));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
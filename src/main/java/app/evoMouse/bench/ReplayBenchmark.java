@@ -0,0 +1,46 @@
+package app.evoMouse.bench;
+
+import app.evoMouse.LaunchOptions;
+import app.evoMouse.world.GameWorld;
+
+/**
+ * Reproduz um log de entrada sem janela, na velocidade máxima da CPU.
+ * <p>
+ * Como não há renderização nem espera entre ticks, o tempo medido é apenas o
+ * custo da simulação. Com o mesmo log, o relatório é comparável entre commits.
+ * </p>
+ */
+public final class ReplayBenchmark {
+
+    private ReplayBenchmark() {
+    }
+
+    /**
+     * Executa o replay headless e imprime o relatório de desempenho.
+     *
+     * @param options opções de linha de comando (precisam conter {@code --replay})
+     */
+    public static void run(LaunchOptions options) {
+        if (options.getReplayPath() == null) {
+            throw new IllegalArgumentException("--headless exige --replay <arquivo>");
+        }
+
+        GameWorld world = options.createWorld(null);
+        PerfStats ticks = new PerfStats("tick", 1 << 16);
+
+        long start = System.nanoTime();
+        while (!world.isFinished()) {
+            long tickStart = System.nanoTime();
+            world.step();
+            ticks.add(System.nanoTime() - tickStart);
+        }
+        long elapsed = System.nanoTime() - start;
+        world.dispose();
+
+        System.out.println("[perf] replay=" + options.getReplayPath() + " seed=" + world.getSeed() + " mode=headless");
+        System.out.println("[perf] " + ticks.report());
+        System.out.printf("[perf] throughput=%.0f ticks/s (%.1fx tempo real)%n",
+                ticks.getCount() / (elapsed / 1e9),
+                ticks.getCount() / (double) GameWorld.TICKS_PER_SECOND / (elapsed / 1e9));
+    }
+}
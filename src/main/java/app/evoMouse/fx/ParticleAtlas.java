@@ -0,0 +1,116 @@
+package app.evoMouse.fx;
+
+import app.evoMouse.graphics.TextureCache;
+import app.evoMouse.graphics.TextureHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Atlas com os sprites das partículas, gerado em tempo de execução.
+ * <p>
+ * Todas as regiões ficam na mesma textura, de modo que o {@link ParticleSystem}
+ * desenha todas as partículas vivas sem trocar de textura (e, portanto, sem
+ * forçar um flush do {@link com.badlogic.gdx.graphics.g2d.SpriteBatch}).
+ * </p>
+ *
+ * <p>
+ * A textura é registrada no {@link TextureCache} como as do disco: conta no
+ * orçamento de memória de vídeo e pode ser descartada e recarregada.
+ * </p>
+ *
+ * <p>Regiões disponíveis:</p>
+ * <ul>
+ *   <li>{@link #SPARK} – faísca pequena e sólida (impacto dos golpes)</li>
+ *   <li>{@link #DUST} – nuvem suave e grande (poeira no chão)</li>
+ *   <li>{@link #GLOW} – brilho redondo e pequeno (rastro da lâmina)</li>
+ * </ul>
+ */
+public class ParticleAtlas implements Disposable {
+
+    public static final int SPARK = 0;
+    public static final int DUST = 1;
+    public static final int GLOW = 2;
+
+    /** Quantidade de regiões do atlas */
+    public static final int REGION_COUNT = 3;
+
+    /** Lado (em pixels) de cada célula do atlas */
+    private static final int CELL = 16;
+
+    /** Nome da textura gerada no {@link TextureCache} */
+    private static final String TEXTURE_NAME = "generated/particles";
+
+    private final TextureCache textures;
+    private final TextureHandle texture;
+
+    /** Coordenadas de textura de cada região, indexadas pelas constantes acima */
+    final float[] u = new float[REGION_COUNT];
+    final float[] v = new float[REGION_COUNT];
+    final float[] u2 = new float[REGION_COUNT];
+    final float[] v2 = new float[REGION_COUNT];
+
+    /**
+     * Desenha as regiões em um {@link Pixmap} e o registra no cache. A textura
+     * só é enviada para a GPU no primeiro uso.
+     *
+     * @param textures cache de texturas compartilhado pelo jogo
+     */
+    public ParticleAtlas(TextureCache textures) {
+        this.textures = textures;
+        Pixmap pixmap = new Pixmap(CELL * REGION_COUNT, CELL, Pixmap.Format.RGBA8888);
+
+        // Faísca: losango sólido
+        int c = CELL / 2;
+        for (int y = 0; y < CELL; y++) {
+            for (int x = 0; x < CELL; x++) {
+                if (Math.abs(x - c) + Math.abs(y - c) <= c / 2) {
+                    pixmap.drawPixel(SPARK * CELL + x, y, Color.rgba8888(1, 1, 1, 1));
+                }
+            }
+        }
+
+        // Poeira e brilho: círculos com alfa decaindo do centro para a borda
+        drawSoftCircle(pixmap, DUST * CELL, c, 0.6f);
+        drawSoftCircle(pixmap, GLOW * CELL, c / 2, 1f);
+
+        int width = pixmap.getWidth();
+        texture = textures.acquire(TEXTURE_NAME, pixmap);
+
+        for (int i = 0; i < REGION_COUNT; i++) {
+            u[i] = (float) (i * CELL) / width;
+            u2[i] = (float) ((i + 1) * CELL) / width;
+            v[i] = 0f;
+            v2[i] = 1f;
+        }
+    }
+
+    private static void drawSoftCircle(Pixmap pixmap, int offsetX, int radius, float maxAlpha) {
+        float c = CELL / 2f;
+        for (int y = 0; y < CELL; y++) {
+            for (int x = 0; x < CELL; x++) {
+                float dx = x + 0.5f - c, dy = y + 0.5f - c;
+                float falloff = 1f - (float) Math.sqrt(dx * dx + dy * dy) / radius;
+                if (falloff > 0f) {
+                    pixmap.drawPixel(offsetX + x, y, Color.rgba8888(1, 1, 1, falloff * maxAlpha));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return textura do atlas, recarregada se tiver sido descartada; não deve ser guardada entre frames
+     */
+    public Texture getTexture() {
+        return texture.getTexture();
+    }
+
+    /**
+     * Libera a referência à textura do atlas.
+     */
+    @Override
+    public void dispose() {
+        textures.release(texture);
+    }
+}
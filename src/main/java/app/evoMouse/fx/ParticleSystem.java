@@ -0,0 +1,216 @@
+package app.evoMouse.fx;
+
+import app.evoMouse.IsometricRenderer;
+import app.evoMouse.world.FieldOfView;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/**
+ * Sistema de partículas armazenado em estrutura de arrays (struct-of-arrays).
+ * <p>
+ * Cada atributo das partículas vive em um array primitivo pré-alocado com a
+ * capacidade máxima; as partículas vivas ocupam sempre os índices
+ * {@code [0, count)}. Quando uma partícula morre, a última é copiada para o
+ * seu lugar (swap-remove), mantendo o bloco contíguo sem deslocar os demais.
+ * </p>
+ *
+ * <p>
+ * Nenhum método aloca memória após a construção: criar, atualizar e desenhar
+ * partículas apenas lê e escreve nesses arrays. O desenho usa um único
+ * {@link ParticleAtlas}, então todas as partículas vão para a GPU em uma
+ * passada, em lotes de vértices já montados.
+ * </p>
+ */
+public class ParticleSystem {
+
+    /** Floats por vértice no formato do {@link SpriteBatch}: x, y, cor, u, v */
+    private static final int VERTEX_SIZE = 5;
+
+    /** Floats por partícula (quatro vértices) */
+    private static final int SPRITE_SIZE = VERTEX_SIZE * 4;
+
+    /** Partículas enviadas ao batch por chamada de desenho */
+    private static final int SPRITES_PER_CHUNK = 1024;
+
+    /**
+     * Centro da face de cima do bloco, relativo à origem do tile: uma partícula
+     * nesse ponto pertence àquele tile.
+     */
+    private static final float TILE_TOP_X = IsometricRenderer.TILE_WIDTH / 2f;
+    private static final float TILE_TOP_Y = IsometricRenderer.TILE_HEIGHT * 0.75f;
+
+    // ============================================================
+    // === Atributos das partículas (um array por atributo) =======
+    // ============================================================
+
+    private final float[] x, y;
+    private final float[] vx, vy;
+    private final float[] life, maxLife;
+    private final float[] size;
+    /** Cor em formato ABGR8888 ({@link com.badlogic.gdx.graphics.Color#toIntBits}) */
+    private final int[] color;
+    /** Índice da região no {@link ParticleAtlas} */
+    private final byte[] region;
+
+    /** Vértices do lote atual, reaproveitados a cada frame */
+    private final float[] vertices = new float[SPRITES_PER_CHUNK * SPRITE_SIZE];
+
+    /** Fator de velocidade mantido por segundo (1 = sem atrito) */
+    private float drag = 0.05f;
+
+    /** Quantidade de partículas vivas */
+    private int count;
+
+    /**
+     * @param capacity número máximo de partículas vivas ao mesmo tempo
+     */
+    public ParticleSystem(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        size = new float[capacity];
+        color = new int[capacity];
+        region = new byte[capacity];
+    }
+
+    /**
+     * Cria uma partícula. Se o sistema estiver cheio, a partícula é descartada.
+     *
+     * @param px     posição X inicial
+     * @param py     posição Y inicial
+     * @param pvx    velocidade X (pixels por segundo)
+     * @param pvy    velocidade Y (pixels por segundo)
+     * @param ttl    tempo de vida (em segundos)
+     * @param psize  lado do sprite (em pixels)
+     * @param abgr   cor em formato ABGR8888
+     * @param atlasRegion região do {@link ParticleAtlas}
+     * @return {@code true} se a partícula foi criada
+     */
+    public boolean spawn(float px, float py, float pvx, float pvy, float ttl, float psize, int abgr, int atlasRegion) {
+        if (count == x.length) return false;
+
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        life[i] = ttl;
+        maxLife[i] = ttl;
+        size[i] = psize;
+        color[i] = abgr;
+        region[i] = (byte) atlasRegion;
+        return true;
+    }
+
+    /**
+     * Integra as partículas vivas e remove as que morreram.
+     *
+     * @param delta tempo (em segundos) desde a última atualização
+     */
+    public void update(float delta) {
+        float damping = (float) Math.pow(drag, delta);
+
+        int i = 0;
+        while (i < count) {
+            float remaining = life[i] - delta;
+            if (remaining <= 0f) {
+                // Swap-remove: a última partícula viva ocupa esta posição
+                int last = --count;
+                x[i] = x[last];
+                y[i] = y[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                life[i] = life[last];
+                maxLife[i] = maxLife[last];
+                size[i] = size[last];
+                color[i] = color[last];
+                region[i] = region[last];
+                continue; // reavalia o índice com a partícula movida
+            }
+
+            life[i] = remaining;
+            vx[i] *= damping;
+            vy[i] *= damping;
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            i++;
+        }
+    }
+
+    /**
+     * Desenha as partículas vivas que estão sobre tiles visíveis, com
+     * transparência proporcional à vida restante. Deve ser chamado entre
+     * {@code batch.begin()} e {@code batch.end()}.
+     *
+     * @param batch batch em uso no frame
+     * @param atlas atlas com as regiões das partículas
+     * @param fov   campo de visão do jogador, já atualizado para o frame
+     */
+    public void render(SpriteBatch batch, ParticleAtlas atlas, FieldOfView fov) {
+        int n = 0;
+
+        for (int i = 0; i < count; i++) {
+            float tileX = x[i] - TILE_TOP_X, tileY = y[i] - TILE_TOP_Y;
+            if (!fov.isVisible(IsometricRenderer.tileRowAt(tileX, tileY),
+                    IsometricRenderer.tileColAt(tileX, tileY))) continue;
+
+            int r = region[i];
+            float half = size[i] * 0.5f;
+            float x1 = x[i] - half, y1 = y[i] - half;
+            float x2 = x[i] + half, y2 = y[i] + half;
+
+            int alpha = (int) (((color[i] >>> 24) & 0xFF) * (life[i] / maxLife[i]));
+            float packed = NumberUtils.intToFloatColor((alpha << 24) | (color[i] & 0x00FFFFFF));
+
+            float u = atlas.u[r], v = atlas.v[r], u2 = atlas.u2[r], v2 = atlas.v2[r];
+
+            int o = n * SPRITE_SIZE;
+            vertices[o] = x1;      vertices[o + 1] = y1;  vertices[o + 2] = packed;  vertices[o + 3] = u;   vertices[o + 4] = v2;
+            vertices[o + 5] = x1;  vertices[o + 6] = y2;  vertices[o + 7] = packed;  vertices[o + 8] = u;   vertices[o + 9] = v;
+            vertices[o + 10] = x2; vertices[o + 11] = y2; vertices[o + 12] = packed; vertices[o + 13] = u2; vertices[o + 14] = v;
+            vertices[o + 15] = x2; vertices[o + 16] = y1; vertices[o + 17] = packed; vertices[o + 18] = u2; vertices[o + 19] = v2;
+
+            if (++n == SPRITES_PER_CHUNK) {
+                batch.draw(atlas.getTexture(), vertices, 0, n * SPRITE_SIZE);
+                n = 0;
+            }
+        }
+
+        if (n > 0) {
+            batch.draw(atlas.getTexture(), vertices, 0, n * SPRITE_SIZE);
+        }
+    }
+
+    /**
+     * Remove todas as partículas.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Define o atrito aplicado às velocidades.
+     *
+     * @param drag fração da velocidade mantida após um segundo (entre 0 e 1)
+     */
+    public void setDrag(float drag) {
+        this.drag = drag;
+    }
+
+    /**
+     * @return quantidade de partículas vivas
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return número máximo de partículas vivas
+     */
+    public int getCapacity() {
+        return x.length;
+    }
+}
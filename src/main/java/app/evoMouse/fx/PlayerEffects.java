@@ -0,0 +1,146 @@
+package app.evoMouse.fx;
+
+import app.evoMouse.player.AttackListener;
+import app.evoMouse.player.Player;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+
+import static app.evoMouse.IsometricRenderer.TILE_HEIGHT;
+import static app.evoMouse.IsometricRenderer.TILE_WIDTH;
+
+/**
+ * Emissores de partículas ligados ao {@link Player}.
+ * <p>
+ * Responsável por:
+ * <ul>
+ *     <li>Faíscas e poeira a cada mudança de estágio do combo ({@link AttackListener})</li>
+ *     <li>Rastro da lâmina enquanto o ataque está em execução</li>
+ *     <li>Poeira dos passos enquanto o jogador caminha</li>
+ * </ul>
+ * As partículas são puramente visuais: usam um gerador aleatório próprio e
+ * não interferem no determinismo da simulação. Nada é emitido dentro do
+ * {@code step()} do mundo: as mudanças de estágio ficam pendentes até
+ * {@link #tick(Player)}, chamado fora da medição do tick.
+ */
+public class PlayerEffects implements AttackListener {
+
+    /** Deslocamento vertical (a partir da posição do jogador) do centro do corpo */
+    private static final float BODY_OFFSET_Y = TILE_HEIGHT;
+
+    /** Deslocamento vertical (a partir da posição do jogador) dos pés */
+    private static final float FEET_OFFSET_Y = TILE_HEIGHT * 0.7f;
+
+    /** Distância à frente do corpo onde o golpe acerta */
+    private static final float REACH = 24f;
+
+    /** Ticks entre duas nuvens de poeira dos passos */
+    private static final int STEP_INTERVAL = 6;
+
+    private static final int SPARK_COLOR = Color.toIntBits(255, 240, 170, 255);
+    private static final int SPARK_COLOR_HEAVY = Color.toIntBits(255, 150, 60, 255);
+    private static final int DUST_COLOR = Color.toIntBits(170, 150, 120, 140);
+    private static final int TRAIL_COLOR = Color.toIntBits(200, 230, 255, 200);
+
+    private final ParticleSystem particles;
+    private final RandomXS128 random = new RandomXS128();
+
+    /** Ticks restantes até a próxima poeira de passo */
+    private int stepCooldown;
+
+    /** Estágios do combo iniciados desde o último {@link #tick(Player)}, um bit por estágio */
+    private int pendingStages;
+
+    /**
+     * @param particles sistema onde as partículas são criadas
+     */
+    public PlayerEffects(ParticleSystem particles) {
+        this.particles = particles;
+    }
+
+    /**
+     * Registra a mudança de estágio; a explosão sai no próximo {@link #tick(Player)}.
+     */
+    @Override
+    public void onAttackStage(Player player, int stage) {
+        pendingStages |= 1 << stage;
+    }
+
+    /**
+     * Dispara a explosão correspondente ao estágio do combo.
+     */
+    private void stageBurst(Player player, int stage) {
+        float bodyX = player.getIsoX() + TILE_WIDTH / 2f;
+        float feetY = player.getIsoY() + FEET_OFFSET_Y;
+        float hitX = bodyX + player.getFacingX() * REACH;
+        float hitY = player.getIsoY() + BODY_OFFSET_Y + player.getFacingY() * REACH;
+
+        switch (stage) {
+            case 1 -> {
+                burst(hitX, hitY, player, 40, 0.6f, 160f, SPARK_COLOR);
+                dust(bodyX, feetY, 10, 40f);
+            }
+            case 2 -> {
+                burst(hitX, hitY, player, 90, 1.1f, 240f, SPARK_COLOR_HEAVY);
+                dust(bodyX, feetY, 24, 70f);
+            }
+            case 0 -> dust(bodyX, feetY, 6, 25f);
+        }
+    }
+
+    /**
+     * Emite as explosões pendentes e os efeitos contínuos; chamado uma vez por
+     * tick da simulação, depois do {@code step()} do mundo.
+     *
+     * @param player jogador a ser acompanhado
+     */
+    public void tick(Player player) {
+        for (int stage = 0; pendingStages != 0; stage++) {
+            if ((pendingStages & (1 << stage)) != 0) {
+                stageBurst(player, stage);
+                pendingStages &= ~(1 << stage);
+            }
+        }
+
+        float bodyX = player.getIsoX() + TILE_WIDTH / 2f;
+
+        if (player.isAttacking()) {
+            // Rastro em arco à frente do jogador
+            float base = MathUtils.atan2(player.getFacingY(), player.getFacingX());
+            for (int i = 0; i < 6; i++) {
+                float angle = base + (random.nextFloat() - 0.5f) * MathUtils.PI * 0.8f;
+                float px = bodyX + MathUtils.cos(angle) * REACH;
+                float py = player.getIsoY() + BODY_OFFSET_Y + MathUtils.sin(angle) * REACH;
+                particles.spawn(px, py, 0f, 0f, 0.15f + random.nextFloat() * 0.1f, 6f, TRAIL_COLOR, ParticleAtlas.GLOW);
+            }
+        } else if (player.isMoving() && --stepCooldown <= 0) {
+            dust(bodyX, player.getIsoY() + FEET_OFFSET_Y, 2, 15f);
+            stepCooldown = STEP_INTERVAL;
+        }
+    }
+
+    /**
+     * Faíscas espalhadas em um cone na direção do golpe.
+     */
+    private void burst(float x, float y, Player player, int amount, float spread, float speed, int abgr) {
+        float base = MathUtils.atan2(player.getFacingY(), player.getFacingX());
+        for (int i = 0; i < amount; i++) {
+            float angle = base + (random.nextFloat() - 0.5f) * 2f * spread;
+            float s = speed * (0.4f + random.nextFloat() * 0.6f);
+            particles.spawn(x, y, MathUtils.cos(angle) * s, MathUtils.sin(angle) * s,
+                    0.2f + random.nextFloat() * 0.3f, 3f + random.nextFloat() * 3f, abgr, ParticleAtlas.SPARK);
+        }
+    }
+
+    /**
+     * Nuvem de poeira espalhada em todas as direções, achatada no eixo Y (plano isométrico).
+     */
+    private void dust(float x, float y, int amount, float speed) {
+        for (int i = 0; i < amount; i++) {
+            float angle = random.nextFloat() * MathUtils.PI2;
+            float s = speed * (0.3f + random.nextFloat() * 0.7f);
+            particles.spawn(x, y, MathUtils.cos(angle) * s, MathUtils.sin(angle) * s * 0.5f,
+                    0.4f + random.nextFloat() * 0.4f, 10f + random.nextFloat() * 8f, DUST_COLOR, ParticleAtlas.DUST);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package app.evoMouse.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache de texturas com contagem de referências, orçamento de memória de vídeo
+ * e descarte LRU.
+ *
+ * <p><b>Funcionamento:</b></p>
+ * <ul>
+ *   <li>{@link #acquire(String)} devolve um {@link TextureHandle} compartilhado por caminho
+ *       e incrementa sua contagem de referências; {@link #release(TextureHandle)} a decrementa.</li>
+ *   <li>A textura só é carregada na GPU no primeiro uso e é recarregada automaticamente
+ *       depois de ser descartada.</li>
+ *   <li>Texturas geradas em tempo de execução entram no cache com
+ *       {@link #acquire(String, Pixmap)}; o cache guarda o {@link Pixmap} para recarregá-las.</li>
+ *   <li>Em {@link #endFrame()}, enquanto a memória residente passar do orçamento, as
+ *       texturas usadas há mais tempo (e ociosas há pelo menos {@link #MIN_IDLE_FRAMES}
+ *       frames) são descartadas — por exemplo, animações de ataque que não estão tocando.</li>
+ *   <li>Em {@link #dispose()}, os handles que ainda têm referências são listados como
+ *       vazamentos no log.</li>
+ * </ul>
+ */
+public class TextureCache implements Disposable {
+
+    /** Frames sem uso antes que uma textura possa ser descartada */
+    public static final int MIN_IDLE_FRAMES = 120;
+
+    private static final String TAG = "TextureCache";
+
+    /** Handles por caminho, residentes ou não */
+    private final Map<String, TextureHandle> handles = new HashMap<>();
+
+    /** Orçamento de memória de vídeo (em bytes) */
+    private final long budgetBytes;
+
+    /** Extremidades da lista LRU de texturas residentes */
+    private TextureHandle newest, oldest;
+
+    /** Frame atual, incrementado em {@link #endFrame()} */
+    private long frame;
+
+    private long residentBytes;
+    private long peakResidentBytes;
+    private int evictionCount;
+    private int reloadCount;
+
+    /**
+     * @param budgetBytes orçamento de memória de vídeo para as texturas (em bytes)
+     */
+    public TextureCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Adquire uma referência à textura do caminho informado. A textura não é
+     * carregada até ser usada.
+     *
+     * @param path caminho interno do arquivo (ex.: {@code assets/blocks/grass_1.png})
+     * @return handle compartilhado da textura
+     */
+    public TextureHandle acquire(String path) {
+        TextureHandle handle = handles.get(path);
+        if (handle == null) {
+            handle = new TextureHandle(this, path);
+            handles.put(path, handle);
+        }
+        handle.refCount++;
+        return handle;
+    }
+
+    /**
+     * Adquire uma referência a uma textura gerada em tempo de execução, que passa
+     * a contar no orçamento, no descarte LRU e na detecção de vazamentos como as
+     * demais. O cache assume o {@link Pixmap} e o descarta quando o handle deixa
+     * de existir. Se o nome já estiver registrado, o {@code pixmap} é descartado
+     * e o handle existente é reaproveitado.
+     *
+     * @param name   nome único da textura (ex.: {@code generated/particles})
+     * @param pixmap imagem da textura
+     * @return handle compartilhado da textura
+     */
+    public TextureHandle acquire(String name, Pixmap pixmap) {
+        TextureHandle handle = handles.get(name);
+        if (handle == null) {
+            handle = new TextureHandle(this, name);
+            handle.source = pixmap;
+            handles.put(name, handle);
+        } else {
+            pixmap.dispose();
+        }
+        handle.refCount++;
+        return handle;
+    }
+
+    /**
+     * Libera uma referência adquirida com {@link #acquire(String)} ou
+     * {@link #acquire(String, Pixmap)}. Sem referências, a textura continua
+     * residente até ser escolhida para descarte.
+     *
+     * @param handle handle a ser liberado
+     */
+    public void release(TextureHandle handle) {
+        if (handle.refCount <= 0) {
+            Gdx.app.error(TAG, "release() sem acquire() correspondente: " + handle.path);
+            return;
+        }
+        handle.refCount--;
+    }
+
+    /**
+     * Marca o uso do handle no frame atual, carregando a textura se necessário.
+     */
+    void touch(TextureHandle handle) {
+        if (handle.texture == null) {
+            load(handle);
+        } else if (handle.lastUsedFrame == frame) {
+            return;
+        } else {
+            unlink(handle);
+        }
+        linkNewest(handle);
+        handle.lastUsedFrame = frame;
+    }
+
+    private void load(TextureHandle handle) {
+        Texture texture = handle.source != null
+                ? new Texture(handle.source)
+                : new Texture(Gdx.files.internal(handle.path));
+        handle.texture = texture;
+        handle.region.setRegion(texture);
+        handle.bytes = estimateBytes(texture);
+
+        if (handle.loadedOnce) reloadCount++;
+        handle.loadedOnce = true;
+
+        residentBytes += handle.bytes;
+        peakResidentBytes = Math.max(peakResidentBytes, residentBytes);
+    }
+
+    /**
+     * Finaliza o frame: avança o contador de frames e descarta as texturas menos
+     * usadas recentemente enquanto a memória residente exceder o orçamento.
+     */
+    public void endFrame() {
+        while (residentBytes > budgetBytes && oldest != null
+                && frame - oldest.lastUsedFrame >= MIN_IDLE_FRAMES) {
+            evict(oldest);
+        }
+        frame++;
+    }
+
+    private void evict(TextureHandle handle) {
+        unlink(handle);
+        handle.texture.dispose();
+        handle.texture = null;
+        residentBytes -= handle.bytes;
+        evictionCount++;
+
+        // Sem donos, o handle também sai do mapa; um novo acquire() cria outro
+        if (handle.refCount == 0) {
+            handles.remove(handle.path);
+            if (handle.source != null) handle.source.dispose();
+        }
+    }
+
+    private void linkNewest(TextureHandle handle) {
+        handle.older = newest;
+        handle.newer = null;
+        if (newest != null) newest.newer = handle;
+        newest = handle;
+        if (oldest == null) oldest = handle;
+    }
+
+    private void unlink(TextureHandle handle) {
+        if (handle.newer != null) handle.newer.older = handle.older;
+        else newest = handle.older;
+        if (handle.older != null) handle.older.newer = handle.newer;
+        else oldest = handle.newer;
+        handle.newer = handle.older = null;
+    }
+
+    /**
+     * Estima o tamanho da textura na GPU a partir das dimensões e do formato dos pixels.
+     */
+    private static long estimateBytes(Texture texture) {
+        Pixmap.Format format = texture.getTextureData().getFormat();
+        int bytesPerPixel = switch (format) {
+            case Alpha, Intensity -> 1;
+            case LuminanceAlpha, RGB565, RGBA4444 -> 2;
+            case RGB888 -> 3;
+            case RGBA8888 -> 4;
+        };
+        return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public long getPeakResidentBytes() {
+        return peakResidentBytes;
+    }
+
+    public int getEvictionCount() {
+        return evictionCount;
+    }
+
+    public int getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * @return resumo de uma linha com memória residente, pico, descartes e recargas
+     */
+    public String report() {
+        return String.format("textures resident=%dKB peak=%dKB budget=%dKB handles=%d evictions=%d reloads=%d",
+                residentBytes / 1024, peakResidentBytes / 1024, budgetBytes / 1024,
+                handles.size(), evictionCount, reloadCount);
+    }
+
+    /**
+     * Descarta todas as texturas e lista no log os handles que ainda tinham
+     * referências — recursos que algum dono esqueceu de liberar.
+     */
+    @Override
+    public void dispose() {
+        int leaks = 0;
+        for (TextureHandle handle : handles.values()) {
+            if (handle.refCount > 0) {
+                Gdx.app.error(TAG, "Vazamento: " + handle.path + " (referências=" + handle.refCount + ")");
+                leaks++;
+            }
+            if (handle.texture != null) {
+                handle.texture.dispose();
+                handle.texture = null;
+            }
+            if (handle.source != null) {
+                handle.source.dispose();
+                handle.source = null;
+            }
+        }
+        if (leaks > 0) {
+            Gdx.app.error(TAG, leaks + " textura(s) não liberada(s) ao encerrar");
+        }
+
+        handles.clear();
+        newest = oldest = null;
+        residentBytes = 0;
+    }
+}
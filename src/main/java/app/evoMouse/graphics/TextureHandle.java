@@ -0,0 +1,83 @@
+package app.evoMouse.graphics;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Referência a uma textura gerenciada pelo {@link TextureCache}.
+ * <p>
+ * A textura pode ser descartada da GPU a qualquer momento em que não estiver
+ * sendo usada; ela é recarregada de forma transparente na próxima chamada a
+ * {@link #getRegion()} ou {@link #getTexture()}. Por isso, quem usa o handle
+ * nunca deve guardar a {@link Texture} retornada entre frames.
+ * </p>
+ */
+public class TextureHandle {
+
+    /** Caminho interno do arquivo da textura (ou nome, se gerada em tempo de execução) */
+    final String path;
+
+    /** Imagem de origem de uma textura gerada, ou {@code null} se ela vem de arquivo */
+    Pixmap source;
+
+    /** Cache dono deste handle */
+    private final TextureCache cache;
+
+    /** Região cobrindo a textura inteira, reaproveitada entre recargas */
+    final TextureRegion region = new TextureRegion();
+
+    /** Textura residente na GPU, ou {@code null} se descarregada */
+    Texture texture;
+
+    /** Tamanho estimado da textura na GPU (em bytes) */
+    long bytes;
+
+    /** Quantidade de donos que adquiriram este handle */
+    int refCount;
+
+    /** Último frame em que a textura foi usada */
+    long lastUsedFrame;
+
+    /** Indica se a textura já foi carregada alguma vez (para contar recargas) */
+    boolean loadedOnce;
+
+    /** Vizinhos na lista LRU de texturas residentes (mais recente → mais antiga) */
+    TextureHandle newer, older;
+
+    TextureHandle(TextureCache cache, String path) {
+        this.cache = cache;
+        this.path = path;
+    }
+
+    /**
+     * Obtém a região da textura, carregando-a se necessário, e marca o uso no frame atual.
+     *
+     * @return região cobrindo a textura inteira
+     */
+    public TextureRegion getRegion() {
+        cache.touch(this);
+        return region;
+    }
+
+    /**
+     * Obtém a textura, carregando-a se necessário, e marca o uso no frame atual.
+     *
+     * @return textura residente
+     */
+    public Texture getTexture() {
+        cache.touch(this);
+        return texture;
+    }
+
+    /**
+     * @return {@code true} se a textura está carregada na GPU
+     */
+    public boolean isResident() {
+        return texture != null;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,20 @@
+package app.evoMouse.input;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Fonte de entrada que lê o teclado real através de {@link Gdx#input}.
+ */
+public class GdxInputSource extends MaskedInputSource {
+
+    @Override
+    protected int readMask(long tick) {
+        int mask = 0;
+        for (int i = 0; i < InputKeys.count(); i++) {
+            if (Gdx.input.isKeyPressed(InputKeys.keyAt(i))) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+}
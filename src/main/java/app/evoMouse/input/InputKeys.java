@@ -0,0 +1,53 @@
+package app.evoMouse.input;
+
+import com.badlogic.gdx.Input;
+
+/**
+ * Tabela das teclas rastreadas pelas fontes de entrada.
+ * <p>
+ * Cada tecla ocupa um bit da máscara gravada nos logs de entrada, na ordem
+ * do array {@link #TRACKED}. Novas teclas devem ser adicionadas sempre ao
+ * final para manter a compatibilidade com gravações antigas.
+ * </p>
+ */
+public final class InputKeys {
+
+    /** Teclas usadas pelo jogo, na ordem dos bits da máscara. */
+    private static final int[] TRACKED = {
+            Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D,
+            Input.Keys.X, Input.Keys.G,
+            Input.Keys.Q, Input.Keys.E,
+            Input.Keys.LEFT, Input.Keys.RIGHT, Input.Keys.UP, Input.Keys.DOWN
+    };
+
+    private InputKeys() {
+    }
+
+    /**
+     * @return quantidade de teclas rastreadas (bits usados na máscara)
+     */
+    public static int count() {
+        return TRACKED.length;
+    }
+
+    /**
+     * @param index posição do bit na máscara
+     * @return código da tecla associada ao bit
+     */
+    public static int keyAt(int index) {
+        return TRACKED[index];
+    }
+
+    /**
+     * Obtém o bit da máscara correspondente a uma tecla.
+     *
+     * @param keycode código da tecla ({@link Input.Keys})
+     * @return bit da tecla, ou 0 se a tecla não é rastreada
+     */
+    public static int bitOf(int keycode) {
+        for (int i = 0; i < TRACKED.length; i++) {
+            if (TRACKED[i] == keycode) return 1 << i;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,27 @@
+package app.evoMouse.input;
+
+/**
+ * Constantes do formato binário dos logs de entrada.
+ *
+ * <p>Layout do arquivo (big-endian, via {@link java.io.DataOutputStream}):</p>
+ * <ul>
+ *   <li>{@code int} {@link #MAGIC} e {@code byte} {@link #VERSION};</li>
+ *   <li>{@code long} semente usada na geração do mundo;</li>
+ *   <li>registros {@code int tick, short máscara}, gravados apenas quando a máscara muda;</li>
+ *   <li>{@code int} {@link #END} seguido de {@code long} com o total de ticks gravados.</li>
+ * </ul>
+ */
+final class InputLog {
+
+    /** Assinatura do arquivo ("EVIN") */
+    static final int MAGIC = 0x4556494E;
+
+    /** Versão atual do formato */
+    static final byte VERSION = 1;
+
+    /** Marcador que substitui o tick no registro final */
+    static final int END = -1;
+
+    private InputLog() {
+    }
+}
@@ -0,0 +1,84 @@
+package app.evoMouse.input;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Fonte de entrada que repassa outra fonte e grava cada mudança de teclas em disco.
+ * <p>
+ * O arquivo gerado pode ser reproduzido com {@link ReplayInputSource}. Apenas os
+ * ticks em que a máscara muda são gravados, então uma sessão típica ocupa poucos
+ * kilobytes. O arquivo só fica completo após {@link #dispose()}.
+ * </p>
+ */
+public class InputRecorder extends MaskedInputSource {
+
+    /** Fonte real de entrada que está sendo gravada */
+    private final InputSource delegate;
+
+    private final DataOutputStream out;
+
+    /** Última máscara gravada; -1 força a gravação do primeiro tick */
+    private int lastMask = -1;
+
+    /** Quantidade de ticks amostrados até agora */
+    private long ticks;
+
+    /**
+     * Abre o arquivo de gravação e escreve o cabeçalho.
+     *
+     * @param delegate fonte de entrada a ser gravada
+     * @param path     arquivo de destino (sobrescrito se existir)
+     * @param seed     semente do mundo, necessária para reproduzir a sessão
+     */
+    public InputRecorder(InputSource delegate, Path path, long seed) {
+        this.delegate = delegate;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            out.writeInt(InputLog.MAGIC);
+            out.writeByte(InputLog.VERSION);
+            out.writeLong(seed);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Não foi possível criar o log de entrada: " + path, e);
+        }
+    }
+
+    @Override
+    protected int readMask(long tick) {
+        delegate.poll(tick);
+        int mask = delegate.getMask();
+
+        if (mask != lastMask) {
+            try {
+                out.writeInt((int) tick);
+                out.writeShort(mask);
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Falha ao gravar o log de entrada", e);
+            }
+            lastMask = mask;
+        }
+
+        ticks = tick + 1;
+        return mask;
+    }
+
+    /**
+     * Grava o registro final e fecha o arquivo.
+     */
+    @Override
+    public void dispose() {
+        try {
+            out.writeInt(InputLog.END);
+            out.writeLong(ticks);
+            out.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Falha ao finalizar o log de entrada", e);
+        }
+        delegate.dispose();
+    }
+}
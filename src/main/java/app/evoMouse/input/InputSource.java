@@ -0,0 +1,53 @@
+package app.evoMouse.input;
+
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Fonte de entrada consumida pela simulação do jogo.
+ * <p>
+ * Abstrai a leitura do teclado para que a mesma lógica de jogo possa ser
+ * alimentada pelo teclado real ({@link GdxInputSource}), por uma gravação
+ * ({@link ReplayInputSource}) ou por um gravador ({@link InputRecorder}).
+ * </p>
+ *
+ * <p>
+ * O estado das teclas é amostrado uma única vez por tick da simulação, em
+ * {@link #poll(long)}; as consultas seguintes durante o mesmo tick sempre
+ * retornam o mesmo resultado, o que torna a simulação determinística.
+ * </p>
+ */
+public interface InputSource extends Disposable {
+
+    /**
+     * Amostra o estado das teclas para o tick informado.
+     *
+     * @param tick número do tick da simulação (começa em 0)
+     */
+    void poll(long tick);
+
+    /**
+     * @param keycode código da tecla ({@link com.badlogic.gdx.Input.Keys})
+     * @return {@code true} se a tecla estava pressionada no tick atual
+     */
+    boolean isKeyPressed(int keycode);
+
+    /**
+     * @param keycode código da tecla ({@link com.badlogic.gdx.Input.Keys})
+     * @return {@code true} se a tecla foi pressionada neste tick e não estava no anterior
+     */
+    boolean isKeyJustPressed(int keycode);
+
+    /**
+     * @return máscara de bits das teclas pressionadas no tick atual (ver {@link InputKeys})
+     */
+    int getMask();
+
+    /**
+     * Indica se a fonte não tem mais entradas a partir do tick informado.
+     * Apenas replays terminam; as demais fontes retornam sempre {@code false}.
+     *
+     * @param tick tick atual da simulação
+     * @return {@code true} se a fonte se esgotou
+     */
+    boolean isFinished(long tick);
+}
@@ -0,0 +1,56 @@
+package app.evoMouse.input;
+
+/**
+ * Base das fontes de entrada que representam o teclado como uma máscara de bits.
+ * <p>
+ * A subclasse fornece a máscara de cada tick em {@link #readMask(long)}; esta
+ * classe guarda a máscara atual e a anterior para responder às consultas de
+ * tecla pressionada e recém-pressionada.
+ * </p>
+ */
+public abstract class MaskedInputSource implements InputSource {
+
+    /** Máscara do tick atual */
+    private int mask;
+
+    /** Máscara do tick anterior, usada para detectar teclas recém-pressionadas */
+    private int previousMask;
+
+    @Override
+    public final void poll(long tick) {
+        previousMask = mask;
+        mask = readMask(tick);
+    }
+
+    /**
+     * Lê a máscara de teclas do tick informado.
+     *
+     * @param tick número do tick da simulação
+     * @return máscara de bits das teclas pressionadas (ver {@link InputKeys})
+     */
+    protected abstract int readMask(long tick);
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        return (mask & InputKeys.bitOf(keycode)) != 0;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int keycode) {
+        return (mask & ~previousMask & InputKeys.bitOf(keycode)) != 0;
+    }
+
+    @Override
+    public int getMask() {
+        return mask;
+    }
+
+    @Override
+    public boolean isFinished(long tick) {
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,108 @@
+package app.evoMouse.input;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Fonte de entrada que reproduz um log gravado por {@link InputRecorder}.
+ * <p>
+ * O log é carregado inteiro na memória em arrays primitivos, então a
+ * reprodução não faz I/O nem alocações durante a simulação.
+ * </p>
+ */
+public class ReplayInputSource extends MaskedInputSource {
+
+    /** Semente do mundo gravada no cabeçalho */
+    private final long seed;
+
+    /** Ticks em que a máscara mudou, em ordem crescente */
+    private final int[] ticks;
+
+    /** Máscara válida a partir do tick de mesmo índice */
+    private final short[] masks;
+
+    /** Total de ticks da sessão gravada */
+    private final long totalTicks;
+
+    /** Índice do último registro aplicado */
+    private int cursor = -1;
+
+    private ReplayInputSource(long seed, int[] ticks, short[] masks, long totalTicks) {
+        this.seed = seed;
+        this.ticks = ticks;
+        this.masks = masks;
+        this.totalTicks = totalTicks;
+    }
+
+    /**
+     * Carrega um log de entrada do disco.
+     *
+     * @param path arquivo gravado por {@link InputRecorder}
+     * @return fonte pronta para reprodução a partir do tick 0
+     */
+    public static ReplayInputSource open(Path path) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != InputLog.MAGIC) {
+                throw new GdxRuntimeException("Arquivo não é um log de entrada: " + path);
+            }
+            byte version = in.readByte();
+            if (version != InputLog.VERSION) {
+                throw new GdxRuntimeException("Versão de log não suportada: " + version);
+            }
+            long seed = in.readLong();
+
+            int[] ticks = new int[256];
+            short[] masks = new short[256];
+            int count = 0;
+
+            int tick;
+            while ((tick = in.readInt()) != InputLog.END) {
+                if (count == ticks.length) {
+                    ticks = Arrays.copyOf(ticks, count * 2);
+                    masks = Arrays.copyOf(masks, count * 2);
+                }
+                ticks[count] = tick;
+                masks[count] = in.readShort();
+                count++;
+            }
+            long totalTicks = in.readLong();
+
+            return new ReplayInputSource(seed, Arrays.copyOf(ticks, count), Arrays.copyOf(masks, count), totalTicks);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Não foi possível ler o log de entrada: " + path, e);
+        }
+    }
+
+    @Override
+    protected int readMask(long tick) {
+        while (cursor + 1 < ticks.length && ticks[cursor + 1] <= tick) {
+            cursor++;
+        }
+        return cursor < 0 ? 0 : masks[cursor] & 0xFFFF;
+    }
+
+    @Override
+    public boolean isFinished(long tick) {
+        return tick >= totalTicks;
+    }
+
+    /**
+     * @return semente do mundo usada na sessão gravada
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return total de ticks da sessão gravada
+     */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+}
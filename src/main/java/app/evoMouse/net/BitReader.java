@@ -0,0 +1,64 @@
+package app.evoMouse.net;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Lê valores gravados pelo {@link BitWriter}.
+ */
+final class BitReader {
+
+    private byte[] buffer;
+    private int bytePos, limit;
+
+    /** Bits já lidos do buffer e ainda não consumidos */
+    private long scratch;
+    private int scratchBits;
+
+    /**
+     * Aponta o leitor para um novo pacote.
+     *
+     * @param buffer bytes do pacote
+     * @param offset primeiro byte a ser lido
+     * @param limit  posição após o último byte válido
+     */
+    void reset(byte[] buffer, int offset, int limit) {
+        this.buffer = buffer;
+        this.bytePos = offset;
+        this.limit = limit;
+        this.scratch = 0;
+        this.scratchBits = 0;
+    }
+
+    /**
+     * Lê um valor sem sinal.
+     *
+     * @param bits quantidade de bits (1 a 32)
+     * @return valor lido
+     */
+    long read(int bits) {
+        while (scratchBits < bits) {
+            if (bytePos >= limit) {
+                throw new GdxRuntimeException("Pacote truncado");
+            }
+            scratch = (scratch << 8) | (buffer[bytePos++] & 0xFF);
+            scratchBits += 8;
+        }
+        scratchBits -= bits;
+        return (scratch >>> scratchBits) & ((1L << bits) - 1);
+    }
+
+    /**
+     * Lê um valor com sinal (complemento de dois).
+     *
+     * @param bits quantidade de bits (1 a 32)
+     * @return valor lido, com o sinal estendido
+     */
+    int readSigned(int bits) {
+        long value = read(bits);
+        return (int) (value << (64 - bits) >> (64 - bits));
+    }
+
+    boolean readBoolean() {
+        return read(1) != 0;
+    }
+}
@@ -0,0 +1,70 @@
+package app.evoMouse.net;
+
+/**
+ * Escreve valores com quantidade arbitrária de bits em um buffer de bytes.
+ * <p>
+ * Os bits são gravados do mais significativo para o menos significativo, na
+ * mesma ordem em que o {@link BitReader} os lê. O buffer é reaproveitado entre
+ * pacotes com {@link #reset()}, sem alocações.
+ * </p>
+ */
+final class BitWriter {
+
+    private final byte[] buffer;
+
+    /** Próximo byte livre no buffer */
+    private int bytePos;
+
+    /** Bits ainda não gravados no buffer (nos {@link #scratchBits} bits menos significativos) */
+    private long scratch;
+    private int scratchBits;
+
+    BitWriter(int capacity) {
+        buffer = new byte[capacity];
+    }
+
+    /**
+     * Descarta o conteúdo e volta ao início do buffer.
+     */
+    void reset() {
+        bytePos = 0;
+        scratch = 0;
+        scratchBits = 0;
+    }
+
+    /**
+     * Grava os {@code bits} bits menos significativos de {@code value}.
+     *
+     * @param value valor a ser gravado
+     * @param bits  quantidade de bits (1 a 32)
+     */
+    void write(long value, int bits) {
+        scratch = (scratch << bits) | (value & ((1L << bits) - 1));
+        scratchBits += bits;
+        while (scratchBits >= 8) {
+            scratchBits -= 8;
+            buffer[bytePos++] = (byte) (scratch >>> scratchBits);
+        }
+    }
+
+    void writeBoolean(boolean value) {
+        write(value ? 1 : 0, 1);
+    }
+
+    /**
+     * Completa o último byte com zeros.
+     *
+     * @return quantidade de bytes usados no buffer
+     */
+    int finish() {
+        if (scratchBits > 0) {
+            buffer[bytePos++] = (byte) (scratch << (8 - scratchBits));
+            scratchBits = 0;
+        }
+        return bytePos;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+}
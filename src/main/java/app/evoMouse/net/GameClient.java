@@ -0,0 +1,259 @@
+package app.evoMouse.net;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Arrays;
+
+/**
+ * Cliente UDP do {@link GameServer}.
+ * <p>
+ * Envia a máscara de teclas do jogador e mantém uma cópia local do estado do
+ * mundo, atualizada pelos snapshots recebidos. Cada pacote de entrada confirma
+ * o último snapshot aplicado, que o servidor usa como base dos próximos.
+ * </p>
+ *
+ * <p>
+ * Os métodos não bloqueiam: {@link #poll()} processa apenas os pacotes que já
+ * chegaram. Não é seguro usar a mesma instância em mais de uma thread.
+ * </p>
+ */
+public class GameClient implements Disposable {
+
+    private final DatagramChannel channel;
+    private final ByteBuffer sendBuffer = ByteBuffer.allocate(16);
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocate(Protocol.MAX_PACKET);
+    private final BitReader reader = new BitReader();
+
+    /** Vaga (id da entidade) atribuída pelo servidor, ou -1 antes do {@link Protocol#WELCOME} */
+    private int slot = -1;
+
+    /** Indica se o servidor recusou a conexão por falta de vagas */
+    private boolean rejected;
+
+    /** Tick do último snapshot aplicado */
+    private long lastTick = Protocol.NO_BASELINE;
+
+    // Cópia local das entidades, indexada pelo id
+    private final int[] entityX = new int[Protocol.MAX_PLAYERS];
+    private final int[] entityY = new int[Protocol.MAX_PLAYERS];
+    private final int[] entityFlags = new int[Protocol.MAX_PLAYERS];
+
+    // Cópia local do mapa
+    private int mapSize;
+    private final int[] tiles = new int[255 * 255];
+
+    private long bytesReceived;
+    private int snapshotsApplied;
+    private int snapshotsDiscarded;
+
+    /**
+     * Abre o socket e o associa ao endereço do servidor.
+     *
+     * @param server endereço do servidor
+     */
+    public GameClient(InetSocketAddress server) {
+        try {
+            channel = DatagramChannel.open();
+            channel.connect(server);
+            channel.configureBlocking(false);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Não foi possível conectar a " + server, e);
+        }
+    }
+
+    /**
+     * Pede uma vaga ao servidor. Pode ser repetido até {@link #isConnected()}.
+     */
+    public void connect() {
+        send(sendBuffer.clear().put(Protocol.HELLO));
+    }
+
+    /**
+     * Envia a máscara de teclas atual junto com a confirmação do último snapshot.
+     *
+     * @param mask máscara de bits das teclas (ver {@link app.evoMouse.input.InputKeys})
+     */
+    public void sendInput(int mask) {
+        send(sendBuffer.clear().put(Protocol.INPUT).putInt((int) lastTick).putShort((short) mask));
+    }
+
+    /**
+     * Processa todos os pacotes que já chegaram.
+     */
+    public void poll() {
+        try {
+            while (channel.receive(receiveBuffer.clear()) != null) {
+                int length = receiveBuffer.position();
+                bytesReceived += length;
+                if (length > 0) handlePacket(length);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Falha ao receber pacotes", e);
+        }
+    }
+
+    private void handlePacket(int length) {
+        byte[] data = receiveBuffer.array();
+        switch (data[0]) {
+            case Protocol.WELCOME -> slot = ((data[1] & 0xFF) << 8) | (data[2] & 0xFF);
+            case Protocol.FULL -> rejected = true;
+            case Protocol.SNAPSHOT -> applySnapshot(data, length);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Aplica um snapshot sobre a cópia local. Snapshots mais antigos que o último
+     * aplicado (chegaram fora de ordem) são descartados.
+     */
+    private void applySnapshot(byte[] data, int length) {
+        reader.reset(data, 1, length);
+        long tick = reader.read(Protocol.TICK_BITS);
+        long base = reader.read(Protocol.TICK_BITS);
+
+        if (lastTick != Protocol.NO_BASELINE && tick <= lastTick) {
+            snapshotsDiscarded++;
+            return;
+        }
+        if (base == Protocol.NO_BASELINE) {
+            // Snapshot completo: entidades ausentes não existem mais
+            Arrays.fill(entityFlags, 0);
+        }
+
+        while (reader.readBoolean()) {
+            int id = (int) reader.read(Protocol.SLOT_BITS);
+            int fields = (int) reader.read(Protocol.FIELD_MASK_BITS);
+            if ((fields & Protocol.FIELD_X) != 0) entityX[id] = reader.readSigned(Protocol.COORD_BITS);
+            if ((fields & Protocol.FIELD_Y) != 0) entityY[id] = reader.readSigned(Protocol.COORD_BITS);
+            if ((fields & Protocol.FIELD_FLAGS) != 0) entityFlags[id] = (int) reader.read(Protocol.FLAGS_BITS);
+        }
+
+        if (reader.readBoolean()) {
+            mapSize = (int) reader.read(Protocol.MAP_SIZE_BITS);
+            for (int i = 0; i < mapSize * mapSize; i++) {
+                tiles[i] = (int) reader.read(Protocol.TILE_BITS);
+            }
+        } else {
+            int changed = (int) reader.read(Protocol.TILE_COUNT_BITS);
+            for (int i = 0; i < changed; i++) {
+                int row = (int) reader.read(Protocol.MAP_SIZE_BITS);
+                int col = (int) reader.read(Protocol.MAP_SIZE_BITS);
+                tiles[row * mapSize + col] = (int) reader.read(Protocol.TILE_BITS);
+            }
+        }
+
+        lastTick = tick;
+        snapshotsApplied++;
+    }
+
+    private void send(ByteBuffer packet) {
+        packet.flip();
+        try {
+            channel.write(packet);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Falha ao enviar pacote", e);
+        }
+    }
+
+    // ============================================================
+    // === Estado replicado =======================================
+    // ============================================================
+
+    public boolean isConnected() {
+        return slot >= 0;
+    }
+
+    public boolean isRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return id da entidade controlada por este cliente, ou -1 se ainda não conectado
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * @return tick do último snapshot aplicado
+     */
+    public long getLastTick() {
+        return lastTick;
+    }
+
+    /**
+     * @param id id da entidade
+     * @return {@code true} se a entidade existe no último snapshot aplicado
+     */
+    public boolean isAlive(int id) {
+        return (entityFlags[id] & Protocol.FLAG_ALIVE) != 0;
+    }
+
+    /**
+     * @param id id da entidade
+     * @return posição X da entidade no mundo isométrico
+     */
+    public float getX(int id) {
+        return entityX[id] / (float) Protocol.COORD_SCALE;
+    }
+
+    /**
+     * @param id id da entidade
+     * @return posição Y da entidade no mundo isométrico
+     */
+    public float getY(int id) {
+        return entityY[id] / (float) Protocol.COORD_SCALE;
+    }
+
+    /**
+     * @param id id da entidade
+     * @return estágio do ataque da entidade (0 a 2)
+     */
+    public int getAttackStage(int id) {
+        return (entityFlags[id] >> 2) & 3;
+    }
+
+    public int getMapSize() {
+        return mapSize;
+    }
+
+    /**
+     * @param row linha do tile
+     * @param col coluna do tile
+     * @return tipo do tile na cópia local do mapa
+     */
+    public int getTile(int row, int col) {
+        return tiles[row * mapSize + col];
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public int getSnapshotsApplied() {
+        return snapshotsApplied;
+    }
+
+    public int getSnapshotsDiscarded() {
+        return snapshotsDiscarded;
+    }
+
+    /**
+     * Avisa o servidor da saída e fecha o socket.
+     */
+    @Override
+    public void dispose() {
+        if (slot >= 0) send(sendBuffer.clear().put(Protocol.BYE));
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Falha ao fechar o cliente", e);
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package app.evoMouse.net;
+
+import app.evoMouse.bench.PerfStats;
+import app.evoMouse.player.Player;
+import app.evoMouse.world.GameWorld;
+import app.evoMouse.world.TileMap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Servidor autoritativo e sem janela do mundo do jogo.
+ * <p>
+ * Responsável por:
+ * <ul>
+ *   <li>Simular o {@link GameWorld} em ticks fixos, com um jogador por cliente conectado;</li>
+ *   <li>Receber as entradas dos clientes por UDP ({@link Protocol#INPUT});</li>
+ *   <li>Enviar a cada cliente, a cada {@link #SNAPSHOT_INTERVAL} ticks, um snapshot
+ *       com apenas as entidades e tiles que mudaram desde o último snapshot que
+ *       aquele cliente confirmou, compactado em bits.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Para saber o que mudou sem guardar cópias do mundo por cliente, o servidor
+ * registra o tick em que cada campo de cada entidade mudou pela última vez e a
+ * revisão do {@link TileMap} ao final de cada tick. Todo o trabalho acontece na
+ * thread de {@link #run()}.
+ * </p>
+ */
+public class GameServer implements Runnable, Disposable {
+
+    /** Ticks entre dois snapshots enviados a cada cliente */
+    public static final int SNAPSHOT_INTERVAL = 2;
+
+    /** Tempo sem pacotes após o qual o cliente é desconectado */
+    private static final long TIMEOUT_NANOS = 5_000_000_000L;
+
+    /** Ticks de histórico de revisões do mapa; bases mais antigas recebem snapshot completo */
+    private static final int REVISION_HISTORY = 256;
+
+    /** Ticks entre dois relatórios no console do modo {@code --server} */
+    private static final int REPORT_INTERVAL = GameWorld.TICKS_PER_SECOND * 10;
+
+    /**
+     * Estado de conexão de um cliente.
+     */
+    private static final class ClientSlot {
+        final int id;
+        final SocketAddress address;
+        final NetworkInputSource input = new NetworkInputSource();
+        Player player;
+
+        /** Último tick de snapshot confirmado, ou {@link Protocol#NO_BASELINE} */
+        long ackTick = Protocol.NO_BASELINE;
+
+        long lastHeard;
+        long bytesSent;
+
+        ClientSlot(int id, SocketAddress address) {
+            this.id = id;
+            this.address = address;
+        }
+    }
+
+    private final GameWorld world;
+    private final DatagramChannel channel;
+
+    private final ClientSlot[] slots = new ClientSlot[Protocol.MAX_PLAYERS];
+    private final Map<SocketAddress, ClientSlot> byAddress = new HashMap<>();
+    private int clientCount;
+
+    // Estado quantizado das entidades (índice = vaga do cliente) e o tick em que cada campo mudou
+    private final int[] entityX = new int[Protocol.MAX_PLAYERS];
+    private final int[] entityY = new int[Protocol.MAX_PLAYERS];
+    private final int[] entityFlags = new int[Protocol.MAX_PLAYERS];
+    private final long[] xTick = new long[Protocol.MAX_PLAYERS];
+    private final long[] yTick = new long[Protocol.MAX_PLAYERS];
+    private final long[] flagsTick = new long[Protocol.MAX_PLAYERS];
+
+    /** Revisão do mapa ao final de cada tick recente */
+    private final long[] revisionHistory = new long[REVISION_HISTORY];
+
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocate(Protocol.MAX_PACKET);
+    private final ByteBuffer controlBuffer = ByteBuffer.allocate(16);
+    private final BitWriter writer = new BitWriter(Protocol.MAX_PACKET);
+    private final ByteBuffer snapshotBuffer = ByteBuffer.wrap(writer.buffer());
+
+    /**
+     * Medições do relatório. No modo {@code --server} elas são zeradas a cada
+     * {@link #REPORT_INTERVAL} ticks, para que a memória e o custo do relatório
+     * não cresçam com o tempo de execução; no teste de carga, que tem duração
+     * fixa, acumulam até o fim.
+     */
+    private final PerfStats tickStats = new PerfStats("server-tick", 1 << 14);
+    private long bytesSent;
+    private long packetsSent;
+    private long packetsDropped;
+
+    /** Soma da quantidade de clientes em cada tick, para a média do relatório */
+    private long clientTicks;
+
+    /** Começa verdadeiro para que um {@link #stop()} anterior ao {@link #run()} não se perca */
+    private volatile boolean running = true;
+
+    /** Imprime o relatório periodicamente (modo {@code --server}) */
+    private boolean reportToConsole;
+
+    /**
+     * Cria o mundo e abre o socket UDP do servidor.
+     *
+     * @param seed    semente da geração do mundo
+     * @param address endereço local onde o servidor escuta
+     */
+    public GameServer(long seed, InetSocketAddress address) {
+        world = new GameWorld(seed);
+        try {
+            channel = DatagramChannel.open();
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, 4 * 1024 * 1024);
+            channel.setOption(StandardSocketOptions.SO_SNDBUF, 4 * 1024 * 1024);
+            channel.bind(address);
+            channel.configureBlocking(false);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Não foi possível abrir o servidor em " + address, e);
+        }
+    }
+
+    /**
+     * Executa o laço de ticks até {@link #stop()}. No modo {@code --server}, imprime
+     * um relatório a cada {@link #REPORT_INTERVAL} ticks, cobrindo apenas esse intervalo.
+     */
+    @Override
+    public void run() {
+        long tickNanos = 1_000_000_000L / GameWorld.TICKS_PER_SECOND;
+        long next = System.nanoTime();
+
+        while (running) {
+            long start = System.nanoTime();
+            tick();
+            tickStats.add(System.nanoTime() - start);
+
+            if (reportToConsole && world.getTick() % REPORT_INTERVAL == 0) {
+                System.out.println("[server] " + report().replace(System.lineSeparator(), " | "));
+                resetStats();
+            }
+
+            next += tickNanos;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else if (wait < -tickNanos * 10) {
+                next = System.nanoTime(); // atrasado demais: não tenta recuperar os ticks perdidos
+            }
+        }
+    }
+
+    /**
+     * Executa um tick: processa os pacotes recebidos, avança o mundo e envia os snapshots.
+     */
+    void tick() {
+        receive();
+        dropTimedOut();
+
+        world.step();
+        long tick = world.getTick();
+        captureEntities(tick);
+        revisionHistory[(int) (tick % REVISION_HISTORY)] = world.getMap().getRevision();
+
+        if (tick % SNAPSHOT_INTERVAL == 0) {
+            for (ClientSlot slot : slots) {
+                if (slot != null) sendSnapshot(slot, tick);
+            }
+        }
+        clientTicks += clientCount;
+    }
+
+    // ============================================================
+    // === Recepção ===============================================
+    // ============================================================
+
+    private void receive() {
+        try {
+            SocketAddress from;
+            while ((from = channel.receive(receiveBuffer.clear())) != null) {
+                receiveBuffer.flip();
+                if (receiveBuffer.hasRemaining()) {
+                    handlePacket(from, receiveBuffer);
+                }
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Falha ao receber pacotes", e);
+        }
+    }
+
+    private void handlePacket(SocketAddress from, ByteBuffer packet) throws IOException {
+        byte type = packet.get();
+        ClientSlot slot = byAddress.get(from);
+
+        switch (type) {
+            case Protocol.HELLO -> {
+                if (slot == null) slot = connect(from);
+                if (slot == null) {
+                    sendControl(from, controlBuffer.clear().put(Protocol.FULL));
+                } else {
+                    sendControl(from, controlBuffer.clear().put(Protocol.WELCOME)
+                            .putShort((short) slot.id).putShort((short) GameWorld.TICKS_PER_SECOND));
+                }
+            }
+            case Protocol.INPUT -> {
+                if (slot == null || packet.remaining() < 6) return;
+                long ack = packet.getInt() & 0xFFFFFFFFL;
+                slot.input.setReceived(packet.getShort() & 0xFFFF);
+                if (ack != Protocol.NO_BASELINE && ack <= world.getTick()
+                        && (slot.ackTick == Protocol.NO_BASELINE || ack > slot.ackTick)) {
+                    slot.ackTick = ack;
+                }
+            }
+            case Protocol.BYE -> {
+                if (slot != null) disconnect(slot);
+                return;
+            }
+            default -> {
+                return;
+            }
+        }
+        if (slot != null) slot.lastHeard = System.nanoTime();
+    }
+
+    private ClientSlot connect(SocketAddress address) {
+        for (int id = 0; id < slots.length; id++) {
+            if (slots[id] == null) {
+                ClientSlot slot = new ClientSlot(id, address);
+                slot.player = world.addPlayer(slot.input, null);
+                slots[id] = slot;
+                byAddress.put(address, slot);
+                clientCount++;
+
+                // Os campos da nova entidade mudam no próximo tick (o do próximo snapshot)
+                long changeTick = world.getTick() + 1;
+                xTick[id] = yTick[id] = flagsTick[id] = changeTick;
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private void disconnect(ClientSlot slot) {
+        world.removePlayer(slot.player);
+        slots[slot.id] = null;
+        byAddress.remove(slot.address);
+        clientCount--;
+
+        entityFlags[slot.id] = 0; // sem FLAG_ALIVE: os clientes removem a entidade
+        flagsTick[slot.id] = world.getTick() + 1;
+    }
+
+    private void dropTimedOut() {
+        long now = System.nanoTime();
+        for (ClientSlot slot : slots) {
+            if (slot != null && now - slot.lastHeard > TIMEOUT_NANOS) {
+                disconnect(slot);
+            }
+        }
+    }
+
+    // ============================================================
+    // === Snapshots ==============================================
+    // ============================================================
+
+    /**
+     * Quantiza o estado de cada jogador e registra o tick dos campos que mudaram.
+     */
+    private void captureEntities(long tick) {
+        for (ClientSlot slot : slots) {
+            if (slot == null) continue;
+            int id = slot.id;
+            Player player = slot.player;
+
+            int x = quantize(player.getIsoX());
+            int y = quantize(player.getIsoY());
+            int flags = encodeFlags(player);
+
+            if (x != entityX[id]) { entityX[id] = x; xTick[id] = tick; }
+            if (y != entityY[id]) { entityY[id] = y; yTick[id] = tick; }
+            if (flags != entityFlags[id]) { entityFlags[id] = flags; flagsTick[id] = tick; }
+        }
+    }
+
+    private static int quantize(float coord) {
+        int limit = (1 << (Protocol.COORD_BITS - 1)) - 1;
+        int q = Math.round(coord * Protocol.COORD_SCALE);
+        return Math.max(-limit, Math.min(limit, q));
+    }
+
+    /**
+     * Direção (0 = cima, 1 = baixo, 2 = esquerda, 3 = direita), estágio do ataque,
+     * movimento e presença, nos {@link Protocol#FLAGS_BITS} bits das flags.
+     */
+    private static int encodeFlags(Player player) {
+        int facing = player.getFacingY() > 0 ? 0 : player.getFacingY() < 0 ? 1 : player.getFacingX() < 0 ? 2 : 3;
+        return facing
+                | (player.getAttackStage() << 2)
+                | (player.isMoving() ? Protocol.FLAG_MOVING : 0)
+                | Protocol.FLAG_ALIVE;
+    }
+
+    private void sendSnapshot(ClientSlot slot, long tick) {
+        long base = slot.ackTick;
+        boolean full = base == Protocol.NO_BASELINE || tick - base >= REVISION_HISTORY;
+        if (full) base = Protocol.NO_BASELINE;
+
+        writer.reset();
+        writer.write(Protocol.SNAPSHOT, 8);
+        writer.write(tick, Protocol.TICK_BITS);
+        writer.write(base, Protocol.TICK_BITS);
+
+        writeEntities(full, base);
+        writeTiles(full, full ? 0 : revisionHistory[(int) (base % REVISION_HISTORY)]);
+
+        int length = writer.finish();
+        snapshotBuffer.clear().limit(length);
+        try {
+            if (channel.send(snapshotBuffer, slot.address) == 0) {
+                packetsDropped++;
+                return;
+            }
+        } catch (IOException e) {
+            packetsDropped++;
+            return;
+        }
+        slot.bytesSent += length;
+        bytesSent += length;
+        packetsSent++;
+    }
+
+    private void writeEntities(boolean full, long base) {
+        for (int id = 0; id < Protocol.MAX_PLAYERS; id++) {
+            int fields;
+            if (full) {
+                if ((entityFlags[id] & Protocol.FLAG_ALIVE) == 0) continue;
+                fields = Protocol.FIELD_X | Protocol.FIELD_Y | Protocol.FIELD_FLAGS;
+            } else {
+                fields = (xTick[id] > base ? Protocol.FIELD_X : 0)
+                        | (yTick[id] > base ? Protocol.FIELD_Y : 0)
+                        | (flagsTick[id] > base ? Protocol.FIELD_FLAGS : 0);
+                if (fields == 0) continue;
+            }
+
+            writer.writeBoolean(true);
+            writer.write(id, Protocol.SLOT_BITS);
+            writer.write(fields, Protocol.FIELD_MASK_BITS);
+            if ((fields & Protocol.FIELD_X) != 0) writer.write(entityX[id], Protocol.COORD_BITS);
+            if ((fields & Protocol.FIELD_Y) != 0) writer.write(entityY[id], Protocol.COORD_BITS);
+            if ((fields & Protocol.FIELD_FLAGS) != 0) writer.write(entityFlags[id], Protocol.FLAGS_BITS);
+        }
+        writer.writeBoolean(false);
+    }
+
+    private void writeTiles(boolean full, long baseRevision) {
+        TileMap map = world.getMap();
+        int size = map.size();
+
+        if (full || map.getGenerationRevision() > baseRevision) {
+            writer.writeBoolean(true);
+            writer.write(size, Protocol.MAP_SIZE_BITS);
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    writer.write(map.get(row, col), Protocol.TILE_BITS);
+                }
+            }
+            return;
+        }
+
+        writer.writeBoolean(false);
+        if (map.getRevision() <= baseRevision) {
+            writer.write(0, Protocol.TILE_COUNT_BITS);
+            return;
+        }
+
+        int changed = 0;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (map.getTileRevision(row, col) > baseRevision) changed++;
+            }
+        }
+        writer.write(changed, Protocol.TILE_COUNT_BITS);
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (map.getTileRevision(row, col) > baseRevision) {
+                    writer.write(row, Protocol.MAP_SIZE_BITS);
+                    writer.write(col, Protocol.MAP_SIZE_BITS);
+                    writer.write(map.get(row, col), Protocol.TILE_BITS);
+                }
+            }
+        }
+    }
+
+    private void sendControl(SocketAddress to, ByteBuffer packet) throws IOException {
+        packet.flip();
+        channel.send(packet, to);
+    }
+
+    // ============================================================
+    // === Controle e relatório ===================================
+    // ============================================================
+
+    /**
+     * Pede o fim do laço de {@link #run()}; seguro para chamar de outra thread.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * @return quantidade de clientes conectados
+     */
+    public int getClientCount() {
+        return clientCount;
+    }
+
+    public PerfStats getTickStats() {
+        return tickStats;
+    }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Zera as medições do relatório (tempo de tick e tráfego).
+     */
+    private void resetStats() {
+        tickStats.reset();
+        clientTicks = 0;
+        bytesSent = 0;
+        packetsSent = 0;
+        packetsDropped = 0;
+    }
+
+    /**
+     * Gera o relatório de desempenho acumulado desde o início (ou, no modo
+     * {@code --server}, desde o último relatório periódico). Deve ser chamado
+     * na thread do servidor ou depois que ela terminar.
+     *
+     * @return linhas com tempo de tick e tráfego por cliente
+     */
+    public String report() {
+        int ticks = tickStats.getCount();
+        double seconds = ticks / (double) GameWorld.TICKS_PER_SECOND;
+        double avgClients = ticks == 0 ? 0 : clientTicks / (double) ticks;
+        double bytesPerClientSecond = avgClients == 0 || seconds == 0 ? 0 : bytesSent / avgClients / seconds;
+
+        return tickStats.report() + System.lineSeparator()
+                + String.format("connected=%d avgClients=%.1f packets=%d dropped=%d bytes=%d avgPacket=%.1fB perClient=%.1fB/s",
+                clientCount, avgClients, packetsSent, packetsDropped, bytesSent,
+                packetsSent == 0 ? 0 : bytesSent / (double) packetsSent, bytesPerClientSecond);
+    }
+
+    /**
+     * Ponto de entrada do modo {@code --server}: roda até o processo ser encerrado,
+     * imprimindo um relatório a cada dez segundos.
+     * <p>
+     * Ao encerrar (Ctrl+C ou sinal de término), um shutdown hook para o laço e
+     * espera o socket e o mundo serem descartados antes de a JVM sair.
+     * </p>
+     *
+     * @param seed    semente do mundo
+     * @param address endereço local do socket (por padrão, loopback; ver {@code --bind})
+     */
+    public static void serve(long seed, InetSocketAddress address) {
+        GameServer server = new GameServer(seed, address);
+        server.reportToConsole = true;
+        System.out.println("[server] escutando em " + address + " seed=" + seed);
+
+        CountDownLatch disposed = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            try {
+                disposed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "game-server-shutdown"));
+
+        try {
+            server.run();
+            System.out.println("[server] encerrando | " + server.report().replace(System.lineSeparator(), " | "));
+        } finally {
+            try {
+                server.dispose();
+            } finally {
+                // Libera o shutdown hook mesmo se o descarte falhar
+                disposed.countDown();
+            }
+        }
+    }
+
+    /**
+     * Fecha o socket e descarta o mundo.
+     */
+    @Override
+    public void dispose() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Falha ao fechar o servidor", e);
+        }
+        world.dispose();
+    }
+}
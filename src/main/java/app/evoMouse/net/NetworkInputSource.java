@@ -0,0 +1,25 @@
+package app.evoMouse.net;
+
+import app.evoMouse.input.MaskedInputSource;
+
+/**
+ * Fonte de entrada alimentada pelos pacotes {@link Protocol#INPUT} de um cliente.
+ * <p>
+ * Guarda a última máscara recebida; a simulação a amostra uma vez por tick
+ * como qualquer outra {@link app.evoMouse.input.InputSource}.
+ * </p>
+ */
+class NetworkInputSource extends MaskedInputSource {
+
+    /** Última máscara recebida do cliente */
+    private int received;
+
+    void setReceived(int mask) {
+        received = mask;
+    }
+
+    @Override
+    protected int readMask(long tick) {
+        return received;
+    }
+}
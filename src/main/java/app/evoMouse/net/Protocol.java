@@ -0,0 +1,79 @@
+package app.evoMouse.net;
+
+/**
+ * Constantes do protocolo UDP entre {@link GameServer} e {@link GameClient}.
+ *
+ * <p>Todo datagrama começa com um byte de tipo:</p>
+ * <ul>
+ *   <li>{@link #HELLO} (cliente → servidor) – pede uma vaga no mundo.</li>
+ *   <li>{@link #WELCOME} (servidor → cliente) – {@code short} vaga do jogador, {@code short} ticks por segundo.</li>
+ *   <li>{@link #FULL} (servidor → cliente) – não há vagas livres.</li>
+ *   <li>{@link #INPUT} (cliente → servidor) – {@code int} último tick de snapshot recebido, {@code short} máscara de teclas.</li>
+ *   <li>{@link #BYE} (cliente → servidor) – o cliente saiu.</li>
+ *   <li>{@link #SNAPSHOT} (servidor → cliente) – snapshot compactado em bits, ver abaixo.</li>
+ * </ul>
+ *
+ * <p><b>Snapshot</b> (lido com {@link BitReader}):</p>
+ * <ul>
+ *   <li>{@link #TICK_BITS} tick do snapshot e {@link #TICK_BITS} tick de base
+ *       (o último reconhecido pelo cliente, ou todos os bits em 1 para snapshot completo);</li>
+ *   <li>para cada entidade que mudou desde a base: 1 bit {@code 1}, {@link #SLOT_BITS} id,
+ *       3 bits indicando quais campos seguem (x, y, flags) e os campos em si;
+ *       a lista termina com 1 bit {@code 0};</li>
+ *   <li>1 bit de mapa completo: se {@code 1}, {@link #MAP_SIZE_BITS} tamanho e todos os tiles;
+ *       senão {@link #TILE_COUNT_BITS} quantidade de tiles alterados e, para cada um,
+ *       linha, coluna e valor.</li>
+ * </ul>
+ *
+ * <p>
+ * Os campos são enviados com valores absolutos. Como a base é sempre um
+ * snapshot que o cliente já aplicou, aplicar o snapshot sobre o estado mais
+ * recente do cliente resulta exatamente no estado do servidor, mesmo que
+ * snapshots intermediários tenham sido perdidos.
+ * </p>
+ */
+final class Protocol {
+
+    static final byte HELLO = 1;
+    static final byte WELCOME = 2;
+    static final byte FULL = 3;
+    static final byte INPUT = 4;
+    static final byte BYE = 5;
+    static final byte SNAPSHOT = 6;
+
+    /** Número máximo de jogadores conectados ao mesmo tempo */
+    static final int MAX_PLAYERS = 1024;
+
+    static final int TICK_BITS = 32;
+    static final int SLOT_BITS = 10;
+    static final int FIELD_MASK_BITS = 3;
+
+    /** Bits das coordenadas, em quartos de pixel e com sinal */
+    static final int COORD_BITS = 22;
+
+    /** Subdivisões de pixel usadas na quantização das coordenadas */
+    static final int COORD_SCALE = 4;
+
+    /** Bits das flags: direção (2), estágio do ataque (2), movendo (1), vivo (1) */
+    static final int FLAGS_BITS = 6;
+
+    static final int FIELD_X = 1;
+    static final int FIELD_Y = 2;
+    static final int FIELD_FLAGS = 4;
+
+    static final int FLAG_MOVING = 1 << 4;
+    static final int FLAG_ALIVE = 1 << 5;
+
+    static final int MAP_SIZE_BITS = 8;
+    static final int TILE_BITS = 3;
+    static final int TILE_COUNT_BITS = 16;
+
+    /** Tick de base que indica um snapshot completo */
+    static final long NO_BASELINE = 0xFFFFFFFFL;
+
+    /** Tamanho máximo de um datagrama */
+    static final int MAX_PACKET = 65_000;
+
+    private Protocol() {
+    }
+}
@@ -0,0 +1,19 @@
+package app.evoMouse.player;
+
+/**
+ * Observador das mudanças de estágio do combo de ataque do {@link Player}.
+ * <p>
+ * Usado para disparar efeitos (partículas, sons) sem que o jogador conheça
+ * quem os produz.
+ * </p>
+ */
+public interface AttackListener {
+
+    /**
+     * Chamado sempre que o estágio do ataque muda.
+     *
+     * @param player jogador que atacou
+     * @param stage  novo estágio: 1 = primeiro golpe, 2 = segundo golpe, 0 = ataque encerrado
+     */
+    void onAttackStage(Player player, int stage);
+}
@@ -1,12 +1,17 @@
 package app.evoMouse.player;
 
-import com.badlogic.gdx.Gdx;
+import app.evoMouse.graphics.TextureCache;
+import app.evoMouse.graphics.TextureHandle;
+import app.evoMouse.input.InputSource;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static app.evoMouse.IsometricRenderer.TILE_HEIGHT;
 import static app.evoMouse.IsometricRenderer.TILE_WIDTH;
@@ -17,28 +22,32 @@ import static app.evoMouse.IsometricRenderer.TILE_WIDTH;
  * Responsável por:
  * <ul>
  *     <li>Gerenciar a posição e direção do personagem</li>
- *     <li>Processar entrada de teclado (WASD e X)</li>
+ *     <li>Processar a fonte de entrada (WASD e X)</li>
  *     <li>Executar e alternar entre animações de movimento, idle e ataque</li>
  *     <li>Renderizar o sprite corretamente ajustado ao tile isométrico</li>
  * </ul>
+ * <p>
+ * Os frames das animações são {@link TextureHandle}s do {@link TextureCache}:
+ * animações que não tocam há algum tempo (como os ataques) podem ser
+ * descarregadas da GPU e voltam a ser carregadas quando necessárias.
  */
-public class Player implements Entity {
+public class Player implements Entity, Disposable {
 
     // ============================================================
     // === Campos de animação ====================================
     // ============================================================
 
     /** Animações de caminhada nas quatro direções */
-    private final Animation<TextureRegion> walkUp, walkDown, walkLeft, walkRight;
+    private final Animation<TextureHandle> walkUp, walkDown, walkLeft, walkRight;
 
     /** Animações de idle (parado) nas quatro direções */
-    private final Animation<TextureRegion> idleUp, idleDown, idleLeft, idleRight;
+    private final Animation<TextureHandle> idleUp, idleDown, idleLeft, idleRight;
 
     /** Animações de ataque (primeiro golpe) nas quatro direções */
-    private final Animation<TextureRegion> attackUpOne, attackDownOne, attackLeftOne, attackRightOne;
+    private final Animation<TextureHandle> attackUpOne, attackDownOne, attackLeftOne, attackRightOne;
 
     /** Animações de ataque (segundo golpe do combo) nas quatro direções */
-    private final Animation<TextureRegion> attackUpTwo, attackDownTwo, attackLeftTwo, attackRightTwo;
+    private final Animation<TextureHandle> attackUpTwo, attackDownTwo, attackLeftTwo, attackRightTwo;
 
     /** Direção atual para a qual o jogador está olhando */
     private Direction facing = Direction.DOWN;
@@ -66,6 +75,9 @@ public class Player implements Entity {
     /** Tempo limite (em segundos) para permitir o segundo ataque em sequência (combo) */
     private final float comboWindow = 0.4f;
 
+    /** Observador notificado a cada mudança de estágio do ataque (pode ser {@code null}) */
+    private AttackListener attackListener;
+
     // ============================================================
     // === Controle geral de animação e posição ===================
     // ============================================================
@@ -74,7 +86,7 @@ public class Player implements Entity {
     private float stateTime;
 
     /** Animação atualmente em execução (idle, movimento ou ataque) */
-    private Animation<TextureRegion> currentAnimation;
+    private Animation<TextureHandle> currentAnimation;
 
     /** Indica se o jogador está se movendo no frame atual */
     private boolean moving;
@@ -82,9 +94,18 @@ public class Player implements Entity {
     /** Posição do jogador no mundo isométrico (coordenadas X e Y) */
     private final Vector2 pos;
 
-    /** Velocidade de deslocamento do jogador em pixels por frame */
+    /** Velocidade de deslocamento do jogador em pixels por tick */
     private final float speed = 2f;
 
+    /** Fonte de entrada que controla o jogador */
+    private final InputSource input;
+
+    /** Cache de onde vêm os frames; {@code null} quando o jogador é apenas simulado */
+    private final TextureCache textures;
+
+    /** Handles adquiridos pelo jogador, liberados em {@link #dispose()} */
+    private final List<TextureHandle> acquired = new ArrayList<>();
+
     // ============================================================
     // === Construtor =============================================
     // ============================================================
@@ -100,8 +121,17 @@ public class Player implements Entity {
      *     <li><b>attack/one</b> — Primeiro golpe</li>
      *     <li><b>attack/two</b> — Segundo golpe</li>
      * </ul>
+     * <p>
+     * Sem {@link TextureCache} (modo headless) nenhuma textura é referenciada:
+     * as animações mantêm apenas a duração dos frames, o suficiente para a
+     * lógica de ataque, e o jogador não pode ser renderizado.
+     *
+     * @param input    fonte de entrada que controla o jogador
+     * @param textures cache de texturas, ou {@code null} para simular sem texturas
      */
-    public Player() {
+    public Player(InputSource input, TextureCache textures) {
+        this.input = input;
+        this.textures = textures;
         pos = new Vector2(0, 0);
         stateTime = 0f;
 
@@ -139,7 +169,7 @@ public class Player implements Entity {
     /**
      * Atualiza o estado do jogador a cada frame.
      * <p>
-     * Processa entrada do teclado, altera animações e calcula o deslocamento
+     * Processa a fonte de entrada, altera animações e calcula o deslocamento
      * no plano isométrico. Também gerencia o ciclo de ataque e combos.
      *
      * @param delta tempo (em segundos) desde o último frame
@@ -157,19 +187,15 @@ public class Player implements Entity {
             if (currentAnimation.isAnimationFinished(stateTime)) {
                 if (attackStage == 1 && attackTimer > comboWindow) {
                     // Não executou segundo ataque dentro do tempo
-                    isAttacking = false;
-                    attackStage = 0;
-                    resetToIdle();
+                    endAttack();
                 } else if (attackStage == 2) {
                     // Segundo ataque finalizado
-                    isAttacking = false;
-                    attackStage = 0;
-                    resetToIdle();
+                    endAttack();
                 }
             }
 
             // Permite iniciar o segundo golpe dentro da janela de combo
-            if (attackStage == 1 && Gdx.input.isKeyJustPressed(Input.Keys.X) && attackTimer <= comboWindow) {
+            if (attackStage == 1 && input.isKeyJustPressed(Input.Keys.X) && attackTimer <= comboWindow) {
                 attackStage = 2;
                 startAttack(2);
             }
@@ -179,24 +205,24 @@ public class Player implements Entity {
         }
 
         // --- Movimento (WASD) ---
-        if (Gdx.input.isKeyPressed(Input.Keys.W)) {
+        if (input.isKeyPressed(Input.Keys.W)) {
             direction.y += 1;
             currentAnimation = walkUp;
             facing = Direction.UP;
             moving = true;
-        } else if (Gdx.input.isKeyPressed(Input.Keys.S)) {
+        } else if (input.isKeyPressed(Input.Keys.S)) {
             direction.y -= 1;
             currentAnimation = walkDown;
             facing = Direction.DOWN;
             moving = true;
         }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
+        if (input.isKeyPressed(Input.Keys.A)) {
             direction.x -= 1;
             currentAnimation = walkLeft;
             facing = Direction.LEFT;
             moving = true;
-        } else if (Gdx.input.isKeyPressed(Input.Keys.D)) {
+        } else if (input.isKeyPressed(Input.Keys.D)) {
             direction.x += 1;
             currentAnimation = walkRight;
             facing = Direction.RIGHT;
@@ -204,7 +230,7 @@ public class Player implements Entity {
         }
 
         // --- Início do ataque ---
-        if (Gdx.input.isKeyJustPressed(Input.Keys.X)) {
+        if (input.isKeyJustPressed(Input.Keys.X)) {
             attackStage = 1;
             startAttack(1);
             return; // Sai — sem movimento neste frame
@@ -241,7 +267,7 @@ public class Player implements Entity {
         float scale = 1.5f;
 
         // Em ataques, a animação toca uma vez (false); nas demais, em loop (true)
-        TextureRegion frame = currentAnimation.getKeyFrame(stateTime, !isAttacking);
+        TextureRegion frame = currentAnimation.getKeyFrame(stateTime, !isAttacking).getRegion();
 
         float spriteWidth = frame.getRegionWidth() * scale;
         float spriteHeight = frame.getRegionHeight() * scale;
@@ -258,16 +284,21 @@ public class Player implements Entity {
 
     /**
      * Carrega uma animação a partir de uma sequência de imagens em um diretório.
+     * Sem cache de texturas os frames ficam vazios e apenas a duração é preservada.
      *
      * @param path          caminho base onde os frames estão armazenados
      * @param frameCount    número total de frames
      * @param frameDuration tempo de exibição de cada frame (em segundos)
      * @return instância de {@link Animation} configurada
      */
-    private Animation<TextureRegion> loadAnimation(String path, int frameCount, float frameDuration) {
-        TextureRegion[] frames = new TextureRegion[frameCount];
+    private Animation<TextureHandle> loadAnimation(String path, int frameCount, float frameDuration) {
+        TextureHandle[] frames = new TextureHandle[frameCount];
+        if (textures == null) {
+            return new Animation<>(frameDuration, frames);
+        }
         for (int i = 0; i < frameCount; i++) {
-            frames[i] = new TextureRegion(new Texture(Gdx.files.internal(path + "/" + i + ".png")));
+            frames[i] = textures.acquire(path + "/" + i + ".png");
+            acquired.add(frames[i]);
         }
         return new Animation<>(frameDuration, frames);
     }
@@ -300,6 +331,19 @@ public class Player implements Entity {
                 }
             }
         }
+
+        if (attackListener != null) attackListener.onAttackStage(this, stage);
+    }
+
+    /**
+     * Encerra o combo de ataque e retorna ao idle.
+     */
+    private void endAttack() {
+        isAttacking = false;
+        attackStage = 0;
+        resetToIdle();
+
+        if (attackListener != null) attackListener.onAttackStage(this, 0);
     }
 
     /**
@@ -314,6 +358,17 @@ public class Player implements Entity {
         }
     }
 
+    /**
+     * Libera as referências às texturas das animações.
+     */
+    @Override
+    public void dispose() {
+        for (TextureHandle handle : acquired) {
+            textures.release(handle);
+        }
+        acquired.clear();
+    }
+
     // ============================================================
     // === Getters ===============================================
     // ============================================================
@@ -335,4 +390,59 @@ public class Player implements Entity {
     public float getIsoY() {
         return pos.y;
     }
+
+    /**
+     * @return {@code true} enquanto uma animação de ataque está em execução
+     */
+    public boolean isAttacking() {
+        return isAttacking;
+    }
+
+    /**
+     * @return estágio atual do ataque: 0 = nenhum, 1 = primeiro golpe, 2 = segundo golpe
+     */
+    public int getAttackStage() {
+        return attackStage;
+    }
+
+    /**
+     * @return {@code true} se o jogador se moveu no último tick
+     */
+    public boolean isMoving() {
+        return moving;
+    }
+
+    /**
+     * Obtém o componente X da direção para a qual o jogador está olhando.
+     *
+     * @return -1 (esquerda), 0 ou 1 (direita)
+     */
+    public int getFacingX() {
+        return facing == Direction.LEFT ? -1 : facing == Direction.RIGHT ? 1 : 0;
+    }
+
+    /**
+     * Obtém o componente Y da direção para a qual o jogador está olhando.
+     *
+     * @return -1 (baixo), 0 ou 1 (cima)
+     */
+    public int getFacingY() {
+        return facing == Direction.DOWN ? -1 : facing == Direction.UP ? 1 : 0;
+    }
+
+    /**
+     * @return fonte de entrada que controla o jogador
+     */
+    public InputSource getInput() {
+        return input;
+    }
+
+    /**
+     * Define o observador das mudanças de estágio do ataque.
+     *
+     * @param attackListener observador, ou {@code null} para remover
+     */
+    public void setAttackListener(AttackListener attackListener) {
+        this.attackListener = attackListener;
+    }
 }
@@ -0,0 +1,245 @@
+package app.evoMouse.world;
+
+import java.util.Arrays;
+
+/**
+ * Campo de visão (e névoa de guerra) de um observador sobre o {@link TileMap}.
+ * <p>
+ * Usa <i>shadowcasting</i> simétrico recursivo: o entorno do observador é
+ * dividido em quatro quadrantes, varridos linha a linha a partir do centro.
+ * Árvores e troncos bloqueiam a visão e projetam sombra nas linhas seguintes.
+ * As inclinações são frações inteiras, então o resultado é exato e simétrico
+ * (se A vê B, B vê A).
+ * </p>
+ *
+ * <p>
+ * A visibilidade fica em um bitset que cobre apenas o quadrado do raio de
+ * visão ao redor do observador, alocado uma única vez. Os tiles já vistos
+ * alguma vez ("explorados") ficam em outro bitset do tamanho do mapa, que só é
+ * realocado quando o mapa cresce.
+ * </p>
+ *
+ * <p>
+ * {@link #update(TileMap, int, int)} pode ser chamado todo frame: o cálculo só
+ * é refeito quando o observador muda de tile, quando o mapa é gerado de novo
+ * ou quando algum tile dentro do raio foi modificado (detectado pelas
+ * revisões do {@link TileMap}).
+ * </p>
+ */
+public class FieldOfView {
+
+    /** Multiplicadores (linha, coluna) de profundidade e de deslocamento de cada quadrante */
+    private static final int[] DEPTH_ROW = {-1, 1, 0, 0};
+    private static final int[] DEPTH_COL = {0, 0, 1, -1};
+    private static final int[] OFFSET_ROW = {0, 0, 1, 1};
+    private static final int[] OFFSET_COL = {1, 1, 0, 0};
+
+    private final int radius;
+
+    /** Lado do quadrado coberto pelo bitset de visibilidade (2 * raio + 1) */
+    private final int window;
+
+    /** Tiles visíveis agora, indexados relativamente ao canto do quadrado do raio */
+    private final long[] visible;
+
+    /** Tiles vistos ao menos uma vez, indexados por linha * tamanho do mapa + coluna */
+    private long[] explored = new long[0];
+
+    /** Tile do observador no último cálculo */
+    private int originRow = -1, originCol = -1;
+
+    /** Tamanho e revisões do mapa no último cálculo */
+    private int mapSize = -1;
+    private long mapRevision = -1, generationRevision = -1;
+
+    /** Quadrante e mapa em uso durante o cálculo (evita passá-los em cada chamada recursiva) */
+    private TileMap map;
+    private int quadrant;
+
+    /** Número de recálculos feitos, para medições */
+    private long recomputeCount;
+
+    /**
+     * @param radius raio de visão, em tiles
+     */
+    public FieldOfView(int radius) {
+        this.radius = radius;
+        this.window = radius * 2 + 1;
+        this.visible = new long[(window * window + 63) >>> 6];
+    }
+
+    /**
+     * Atualiza o campo de visão para o observador no tile informado, refazendo
+     * o cálculo apenas se algo relevante mudou desde o último.
+     *
+     * @param map mapa observado
+     * @param row linha do tile do observador (ajustada para dentro do mapa)
+     * @param col coluna do tile do observador (ajustada para dentro do mapa)
+     * @return {@code true} se a visibilidade foi recalculada
+     */
+    public boolean update(TileMap map, int row, int col) {
+        int size = map.size();
+        if (size == 0) return false;
+        row = Math.max(0, Math.min(row, size - 1));
+        col = Math.max(0, Math.min(col, size - 1));
+
+        if (map.getGenerationRevision() != generationRevision) {
+            resetExplored(size);
+            generationRevision = map.getGenerationRevision();
+        } else if (row == originRow && col == originCol && !changedNearby(map)) {
+            return false;
+        }
+
+        originRow = row;
+        originCol = col;
+        mapRevision = map.getRevision();
+        compute(map);
+        return true;
+    }
+
+    /**
+     * Verifica se algum tile dentro do raio mudou desde o último cálculo. Se o
+     * mapa inteiro não mudou, a resposta sai sem percorrer os tiles.
+     */
+    private boolean changedNearby(TileMap map) {
+        if (map.getRevision() == mapRevision) return false;
+
+        int minRow = Math.max(0, originRow - radius), maxRow = Math.min(mapSize - 1, originRow + radius);
+        int minCol = Math.max(0, originCol - radius), maxCol = Math.min(mapSize - 1, originCol + radius);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                if (map.getTileRevision(row, col) > mapRevision) return true;
+            }
+        }
+
+        // As mudanças foram longe do observador: o resultado atual continua válido
+        mapRevision = map.getRevision();
+        return false;
+    }
+
+    private void resetExplored(int size) {
+        int words = (size * size + 63) >>> 6;
+        if (explored.length < words) {
+            explored = new long[words];
+        } else {
+            Arrays.fill(explored, 0L);
+        }
+        mapSize = size;
+    }
+
+    private void compute(TileMap map) {
+        Arrays.fill(visible, 0L);
+        this.map = map;
+
+        reveal(originRow, originCol);
+        for (quadrant = 0; quadrant < 4; quadrant++) {
+            scan(1, -1, 1, 1, 1);
+        }
+
+        this.map = null;
+        recomputeCount++;
+    }
+
+    /**
+     * Varre uma linha do quadrante atual entre duas inclinações e desce
+     * recursivamente para as linhas seguintes.
+     * <p>
+     * As inclinações são frações ({@code startNum / startDen} e
+     * {@code endNum / endDen}, denominadores positivos) que medem o
+     * deslocamento lateral por unidade de profundidade. Um tile é revelado se
+     * bloqueia a visão ou se seu centro está dentro do setor, o que garante a
+     * simetria.
+     * </p>
+     *
+     * @param depth distância da linha até o observador
+     */
+    private void scan(int depth, int startNum, int startDen, int endNum, int endDen) {
+        if (depth > radius) return;
+
+        // Primeira e última coluna do setor (arredondando o meio tile para dentro)
+        int minCol = Math.floorDiv(2 * depth * startNum + startDen, 2 * startDen);
+        int maxCol = -Math.floorDiv(endDen - 2 * depth * endNum, 2 * endDen);
+
+        int previous = -1; // -1: nenhum, 0: livre, 1: bloqueado
+        for (int offset = minCol; offset <= maxCol; offset++) {
+            int row = originRow + DEPTH_ROW[quadrant] * depth + OFFSET_ROW[quadrant] * offset;
+            int col = originCol + DEPTH_COL[quadrant] * depth + OFFSET_COL[quadrant] * offset;
+            boolean opaque = isOpaque(row, col);
+
+            boolean symmetric = offset * startDen >= depth * startNum && offset * endDen <= depth * endNum;
+            if ((opaque || symmetric) && depth * depth + offset * offset <= radius * radius) {
+                reveal(row, col);
+            }
+
+            if (previous == 1 && !opaque) {
+                // Saiu de um bloqueio: o setor recomeça na borda deste tile
+                startNum = 2 * offset - 1;
+                startDen = 2 * depth;
+            } else if (previous == 0 && opaque) {
+                // Entrou em um bloqueio: a parte livre até aqui continua na próxima linha
+                scan(depth + 1, startNum, startDen, 2 * offset - 1, 2 * depth);
+            }
+            previous = opaque ? 1 : 0;
+        }
+
+        if (previous == 0) {
+            scan(depth + 1, startNum, startDen, endNum, endDen);
+        }
+    }
+
+    /**
+     * Tiles fora do mapa bloqueiam a visão, como uma parede.
+     */
+    private boolean isOpaque(int row, int col) {
+        if (row < 0 || col < 0 || row >= mapSize || col >= mapSize) return true;
+        int tile = map.get(row, col);
+        return tile == TileMap.TREE_1 || tile == TileMap.TREE_2 || tile == TileMap.TRONCO;
+    }
+
+    private void reveal(int row, int col) {
+        if (row < 0 || col < 0 || row >= mapSize || col >= mapSize) return;
+
+        int local = (row - originRow + radius) * window + (col - originCol + radius);
+        visible[local >>> 6] |= 1L << local;
+
+        int index = row * mapSize + col;
+        explored[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * @param row linha do tile
+     * @param col coluna do tile
+     * @return {@code true} se o tile está no campo de visão atual
+     */
+    public boolean isVisible(int row, int col) {
+        int localRow = row - originRow + radius;
+        int localCol = col - originCol + radius;
+        if (localRow < 0 || localCol < 0 || localRow >= window || localCol >= window) return false;
+
+        int local = localRow * window + localCol;
+        return (visible[local >>> 6] & (1L << local)) != 0;
+    }
+
+    /**
+     * @param row linha do tile
+     * @param col coluna do tile
+     * @return {@code true} se o tile já foi visto alguma vez desde a última geração do mapa
+     */
+    public boolean isExplored(int row, int col) {
+        if (row < 0 || col < 0 || row >= mapSize || col >= mapSize) return false;
+
+        int index = row * mapSize + col;
+        return (explored[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * @return quantas vezes a visibilidade foi recalculada
+     */
+    public long getRecomputeCount() {
+        return recomputeCount;
+    }
+}
@@ -0,0 +1,176 @@
+package app.evoMouse.world;
+
+import app.evoMouse.graphics.TextureCache;
+import app.evoMouse.input.InputSource;
+import app.evoMouse.player.Player;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Estado simulado do jogo: mapa e jogadores, cada um com sua fonte de entrada.
+ * <p>
+ * A simulação avança em ticks de duração fixa ({@link #TICK}), independente da
+ * taxa de quadros. Com a mesma semente e a mesma sequência de entradas, o
+ * resultado é sempre idêntico — é isso que permite gravar uma sessão e
+ * reproduzi-la como benchmark, com ou sem renderização.
+ * </p>
+ *
+ * <p>
+ * No jogo local existe um único jogador, o "jogador local" ({@link #getPlayer()}).
+ * No servidor ({@link app.evoMouse.net.GameServer}) o mundo é criado vazio e os
+ * jogadores são adicionados e removidos conforme os clientes se conectam.
+ * </p>
+ */
+public class GameWorld implements Disposable {
+
+    /** Quantidade de ticks da simulação por segundo */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /** Duração de um tick (em segundos) */
+    public static final float TICK = 1f / TICKS_PER_SECOND;
+
+    /** Gerador aleatório do mundo, derivado da semente */
+    private final Random random;
+
+    /** Semente usada na criação do mundo */
+    private final long seed;
+
+    private final TileMap map;
+
+    /** Jogadores na ordem em que são atualizados */
+    private final List<Player> players = new ArrayList<>();
+    private final List<Player> playersView = Collections.unmodifiableList(players);
+
+    /** Jogador controlado localmente, ou {@code null} no servidor */
+    private Player localPlayer;
+
+    /** Número do próximo tick a ser simulado */
+    private long tick;
+
+    /**
+     * Cria um mundo sem jogadores e gera o primeiro mapa.
+     *
+     * @param seed semente da geração procedural
+     */
+    public GameWorld(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.map = new TileMap();
+        map.generate(random);
+    }
+
+    /**
+     * Cria o mundo com um jogador local.
+     *
+     * @param seed     semente da geração procedural
+     * @param input    fonte de entrada do jogador
+     * @param textures cache de texturas, ou {@code null} para simular sem texturas
+     */
+    public GameWorld(long seed, InputSource input, TextureCache textures) {
+        this(seed);
+        this.localPlayer = addPlayer(input, textures);
+    }
+
+    /**
+     * Adiciona um jogador ao mundo; ele passa a ser atualizado a partir do próximo tick.
+     *
+     * @param input    fonte de entrada do jogador
+     * @param textures cache de texturas, ou {@code null} para simular sem texturas
+     * @return jogador criado
+     */
+    public Player addPlayer(InputSource input, TextureCache textures) {
+        Player player = new Player(input, textures);
+        players.add(player);
+        return player;
+    }
+
+    /**
+     * Remove um jogador do mundo, liberando sua fonte de entrada e suas texturas.
+     *
+     * @param player jogador a ser removido
+     */
+    public void removePlayer(Player player) {
+        if (players.remove(player)) {
+            player.getInput().dispose();
+            player.dispose();
+        }
+    }
+
+    /**
+     * Avança a simulação em um tick: amostra a entrada e atualiza cada jogador,
+     * e gera um novo mapa se o jogador local pressionar {@code G}. Jogadores
+     * remotos não podem regenerar o mapa compartilhado; um mundo sem jogador
+     * local (o do servidor) nunca o regenera.
+     */
+    public void step() {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            player.getInput().poll(tick);
+            player.update(TICK);
+        }
+
+        if (localPlayer != null && localPlayer.getInput().isKeyJustPressed(Input.Keys.G)) {
+            map.generate(random);
+        }
+
+        tick++;
+    }
+
+    /**
+     * @return {@code true} se a fonte de entrada do jogador local (um replay) terminou
+     */
+    public boolean isFinished() {
+        return localPlayer != null && localPlayer.getInput().isFinished(tick);
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return fonte de entrada do jogador local
+     */
+    public InputSource getInput() {
+        return localPlayer.getInput();
+    }
+
+    public TileMap getMap() {
+        return map;
+    }
+
+    /**
+     * @return jogador local, ou {@code null} se o mundo não tiver um
+     */
+    public Player getPlayer() {
+        return localPlayer;
+    }
+
+    /**
+     * @return todos os jogadores, na ordem de atualização (somente leitura)
+     */
+    public List<Player> getPlayers() {
+        return playersView;
+    }
+
+    /**
+     * Fecha as fontes de entrada (finalizando gravações em andamento) e libera
+     * as texturas dos jogadores.
+     */
+    @Override
+    public void dispose() {
+        for (Player player : players) {
+            player.getInput().dispose();
+            player.dispose();
+        }
+        players.clear();
+    }
+}
@@ -0,0 +1,154 @@
+package app.evoMouse.world;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Grade quadrada de tiles que compõe o terreno do mundo.
+ * <p>
+ * Cada tile é representado por um valor numérico:
+ * <ul>
+ *   <li>{@link #GRASS_2} (0) → {@code grass_2}</li>
+ *   <li>{@link #GRASS} (1) → {@code grass}</li>
+ *   <li>{@link #TREE_1} (2) → {@code tree_1}</li>
+ *   <li>{@link #TREE_2} (3) → {@code tree_2}</li>
+ *   <li>{@link #TRONCO} (4) → {@code tronco}</li>
+ *   <li>{@link #GRASS_3} (5) → {@code grass_3}</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * O mapa não depende de recursos gráficos, podendo ser usado tanto pelo
+ * {@link app.evoMouse.IsometricRenderer} quanto em simulações sem janela.
+ * </p>
+ *
+ * <p>
+ * Toda modificação incrementa um número de revisão global, e cada tile guarda
+ * a revisão em que mudou pela última vez. Assim, quem precisa acompanhar
+ * mudanças (como os snapshots do servidor) descobre o que mudou desde uma
+ * revisão conhecida sem comparar o mapa inteiro.
+ * </p>
+ */
+public class TileMap {
+
+    public static final int GRASS_2 = 0;
+    public static final int GRASS = 1;
+    public static final int TREE_1 = 2;
+    public static final int TREE_2 = 3;
+    public static final int TRONCO = 4;
+    public static final int GRASS_3 = 5;
+
+    /** Matriz bidimensional [linha][coluna] com o tipo de cada tile */
+    private int[][] tiles = new int[0][0];
+
+    /** Revisão em que cada tile mudou pela última vez */
+    private long[][] tileRevisions = new long[0][0];
+
+    /** Revisão da última modificação de qualquer tile */
+    private long revision;
+
+    /** Revisão da última geração completa (o tamanho pode ter mudado) */
+    private long generationRevision;
+
+    /**
+     * Gera um novo mapa procedural com distribuição aleatória de tiles.
+     * <p>
+     * O tamanho do mapa varia de 10 a 50 tiles por dimensão.
+     * As probabilidades determinam o tipo de terreno ou objeto em cada célula.
+     * Com a mesma sequência de {@link Random} o resultado é sempre o mesmo.
+     * </p>
+     *
+     * @param r gerador de números aleatórios do mundo
+     */
+    public void generate(Random r) {
+        int rSize = Math.max(10, r.nextInt(50)); // tamanho mínimo de 10x10
+
+        int[][] map = new int[rSize][rSize];
+
+        for (int row = 0; row < map.length; row++) {
+            for (int col = 0; col < map.length; col++) {
+                int num = r.nextInt(100);
+
+                if (num < 15) map[row][col] = GRASS_2;      // 15% → grass_2
+                else if (num < 70) map[row][col] = GRASS;   // 55% → grass
+                else if (num < 85) map[row][col] = GRASS_3; // 15% → grass_3
+                else if (num < 93) map[row][col] = TREE_1;  // 8%  → tree_1
+                else if (num < 98) map[row][col] = TREE_2;  // 5%  → tree_2
+                else map[row][col] = TRONCO;                // 2%  → tronco
+            }
+        }
+
+        // Tile inicial garantido como chão
+        map[0][0] = GRASS;
+        replace(map);
+    }
+
+    /**
+     * Substitui o mapa inteiro, possivelmente com outro tamanho. Todos os tiles
+     * são marcados como modificados na nova revisão.
+     *
+     * @param map nova matriz quadrada [linha][coluna] de tiles
+     */
+    public void replace(int[][] map) {
+        revision++;
+        generationRevision = revision;
+
+        tiles = map;
+        tileRevisions = new long[map.length][map.length];
+        for (long[] row : tileRevisions) {
+            Arrays.fill(row, revision);
+        }
+    }
+
+    /**
+     * @return quantidade de linhas (e de colunas) do mapa
+     */
+    public int size() {
+        return tiles.length;
+    }
+
+    /**
+     * @param row linha do tile
+     * @param col coluna do tile
+     * @return tipo do tile na posição informada
+     */
+    public int get(int row, int col) {
+        return tiles[row][col];
+    }
+
+    /**
+     * Altera um único tile. Nada muda (nem a revisão) se o valor for o mesmo.
+     *
+     * @param row  linha do tile
+     * @param col  coluna do tile
+     * @param tile novo tipo do tile
+     */
+    public void set(int row, int col, int tile) {
+        if (tiles[row][col] == tile) return;
+        tiles[row][col] = tile;
+        tileRevisions[row][col] = ++revision;
+    }
+
+    /**
+     * @return revisão da última modificação do mapa
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return revisão da última geração (ou substituição) completa do mapa
+     */
+    public long getGenerationRevision() {
+        return generationRevision;
+    }
+
+    /**
+     * @param row linha do tile
+     * @param col coluna do tile
+     * @return revisão em que o tile mudou pela última vez
+     */
+    public long getTileRevision(int row, int col) {
+        return tileRevisions[row][col];
+    }
+}